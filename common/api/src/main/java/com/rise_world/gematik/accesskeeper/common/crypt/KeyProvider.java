@@ -30,4 +30,11 @@ public interface KeyProvider {
      *         {@link IllegalArgumentException} should be thrown
      */
     ECPublicKey getKey(String kid);
+
+    /**
+     * Discards cached certificates and keys for the given identifier, so the next lookup returns the current key material
+     *
+     * @param kid identifier for the certificate or key to be discarded
+     */
+    void invalidate(String kid);
 }
@@ -21,9 +21,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import jakarta.annotation.PreDestroy;
 import java.net.URI;
+import java.time.Duration;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 
 /**
@@ -34,12 +41,34 @@ public class FederationEndpointProvider {
 
     private static final Logger LOG = LoggerFactory.getLogger(FederationEndpointProvider.class);
 
+    private static final Duration EVICTION_INTERVAL = Duration.ofMinutes(1);
+
     private final JacksonJsonProvider jacksonJsonProvider;
     private final SynchronizationConfiguration configuration;
+    // clients are thread-safe and reused per target, so their conduits keep connections alive between synchronizations
+    private final ConcurrentHashMap<ClientKey, PooledClient> clients = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService evictionExecutor;
 
     public FederationEndpointProvider(JacksonJsonProvider jacksonJsonProvider, SynchronizationConfiguration configuration) {
         this.jacksonJsonProvider = jacksonJsonProvider;
         this.configuration = configuration;
+        this.evictionExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "federation-client-eviction");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.evictionExecutor.scheduleWithFixedDelay(this::evictClients,
+            EVICTION_INTERVAL.toMillis(), EVICTION_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        evictionExecutor.shutdownNow();
+        clients.forEach((key, pooled) -> {
+            if (clients.remove(key, pooled)) {
+                close(key, pooled);
+            }
+        });
     }
 
     /**
@@ -69,12 +98,7 @@ public class FederationEndpointProvider {
      * @return an implementation of a FederationConfigurationEndpoint
      */
     protected FederationConfigurationEndpoint create(String baseAddress, Optional<String> tenantId, String userAgent) {
-        MultiTenantFederationConfigurationEndpoint multiTenantEndpoint = JAXRSClientFactory.create(baseAddress, MultiTenantFederationConfigurationEndpoint.class,
-            Collections.singletonList(jacksonJsonProvider), true);
-        setupWebClient(userAgent, multiTenantEndpoint);
-        MultiTenantFederationConfigurationEndpoint endpoint = LoggingInvocationHandler.createLoggingProxy("MultiTenantFederationConfigurationEndpoint",
-            MultiTenantFederationConfigurationEndpoint.class, multiTenantEndpoint);
-
+        MultiTenantFederationConfigurationEndpoint endpoint = getClient(MultiTenantFederationConfigurationEndpoint.class, baseAddress, userAgent);
         return create(endpoint, tenantId);
     }
 
@@ -115,9 +139,61 @@ public class FederationEndpointProvider {
      * @return the created client
      */
     public SignedJwksEndpoint createJwksEndpoint(String endpointUrl, String userAgent) {
-        SignedJwksEndpoint endpoint = JAXRSClientFactory.create(endpointUrl, SignedJwksEndpoint.class, Collections.singletonList(jacksonJsonProvider), false);
+        return getClient(SignedJwksEndpoint.class, endpointUrl, userAgent);
+    }
+
+    private <T> T getClient(Class<T> type, String address, String userAgent) {
+        ClientKey key = new ClientKey(type, address, userAgent);
+        PooledClient pooled = clients.get(key);
+        if (pooled == null) {
+            pooled = clients.computeIfAbsent(key, k -> createClient(type, address, userAgent));
+            if (clients.size() > configuration.getClientCacheMaxSize()) {
+                // only a new client can exceed the maximum size, the periodic eviction takes care of idle clients
+                evictionExecutor.execute(this::evictClients);
+            }
+        }
+        pooled.lastUsed = System.nanoTime();
+        return type.cast(pooled.loggingProxy);
+    }
+
+    private <T> PooledClient createClient(Class<T> type, String address, String userAgent) {
+        LOG.debug("Creating {} client for {}", type.getSimpleName(), address);
+        T endpoint = JAXRSClientFactory.create(address, type, Collections.singletonList(jacksonJsonProvider), true);
         setupWebClient(userAgent, endpoint);
-        return LoggingInvocationHandler.createLoggingProxy("SignedJwksEndpoint", SignedJwksEndpoint.class, endpoint);
+        return new PooledClient(endpoint, LoggingInvocationHandler.createLoggingProxy(type.getSimpleName(), type, endpoint));
+    }
+
+    private void evictClients() {
+        long now = System.nanoTime();
+        long idleTimeout = configuration.getClientIdleTimeout().toNanos();
+        clients.forEach((key, pooled) -> {
+            if (now - pooled.lastUsed > idleTimeout) {
+                evict(key, pooled);
+            }
+        });
+
+        int excess = clients.size() - Math.max(0, configuration.getClientCacheMaxSize());
+        if (excess > 0) {
+            clients.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().lastUsed))
+                .limit(excess)
+                .forEach(entry -> evict(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    private void evict(ClientKey key, PooledClient pooled) {
+        if (clients.remove(key, pooled)) {
+            // a caller may have obtained the client right before the eviction, so it is only closed once
+            // a request started meanwhile (including the fallback to the alternative path) has completed or timed out
+            Duration gracePeriod = configuration.getConnectionTimeout().plus(configuration.getReceiveTimeout()).multipliedBy(2);
+            evictionExecutor.schedule(() -> close(key, pooled), gracePeriod.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static void close(ClientKey key, PooledClient pooled) {
+        LOG.debug("Closing {} client for {}", key.type().getSimpleName(), key.address());
+        // closing releases the conduit together with its kept-alive connections
+        WebClient.client(pooled.client).close();
     }
 
     private void setupWebClient(String userAgent, Object endpoint) {
@@ -132,4 +208,20 @@ public class FederationEndpointProvider {
         httpClientPolicy.setConnectionTimeout(configuration.getConnectionTimeout().toMillis());
         httpClientPolicy.setReceiveTimeout(configuration.getReceiveTimeout().toMillis());
     }
+
+    private record ClientKey(Class<?> type, String address, String userAgent) {
+    }
+
+    private static final class PooledClient {
+
+        private final Object client;
+        private final Object loggingProxy;
+        private volatile long lastUsed;
+
+        private PooledClient(Object client, Object loggingProxy) {
+            this.client = client;
+            this.loggingProxy = loggingProxy;
+            this.lastUsed = System.nanoTime();
+        }
+    }
 }
@@ -33,6 +33,19 @@ public class SynchronizationConfiguration {
     @DurationUnit(ChronoUnit.MILLIS)
     private Duration receiveTimeout;
 
+    private int parallelism = 4;
+
+    @DurationUnit(ChronoUnit.SECONDS)
+    private Duration participantTimeout = Duration.ofMinutes(2);
+
+    @DurationUnit(ChronoUnit.SECONDS)
+    private Duration deadline = Duration.ofHours(1);
+
+    private int clientCacheMaxSize = 500;
+
+    @DurationUnit(ChronoUnit.SECONDS)
+    private Duration clientIdleTimeout = Duration.ofMinutes(10);
+
     private LockFeature lock;
 
     public Duration getExpiration() {
@@ -75,6 +88,72 @@ public class SynchronizationConfiguration {
         this.interval = interval;
     }
 
+    /**
+     * {@code getParallelism} returns the number of participants which are synchronized concurrently
+     *
+     * @return maximum number of concurrent synchronizations
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * {@code getParticipantTimeout} returns the maximum duration of the synchronization of a single participant
+     *
+     * @return timeout per participant
+     */
+    public Duration getParticipantTimeout() {
+        return participantTimeout;
+    }
+
+    public void setParticipantTimeout(Duration participantTimeout) {
+        this.participantTimeout = participantTimeout;
+    }
+
+    /**
+     * {@code getDeadline} returns the maximum duration of a complete synchronization run.
+     * Participants not synchronized within the deadline are skipped until the next run.
+     *
+     * @return deadline of a synchronization run
+     */
+    public Duration getDeadline() {
+        return deadline;
+    }
+
+    public void setDeadline(Duration deadline) {
+        this.deadline = deadline;
+    }
+
+    /**
+     * {@code getClientCacheMaxSize} returns the maximum number of federation clients kept for reuse
+     *
+     * @return maximum number of cached clients
+     */
+    public int getClientCacheMaxSize() {
+        return clientCacheMaxSize;
+    }
+
+    public void setClientCacheMaxSize(int clientCacheMaxSize) {
+        this.clientCacheMaxSize = clientCacheMaxSize;
+    }
+
+    /**
+     * {@code getClientIdleTimeout} returns the duration after which an unused federation client is closed
+     *
+     * @return idle timeout of cached clients
+     */
+    public Duration getClientIdleTimeout() {
+        return clientIdleTimeout;
+    }
+
+    public void setClientIdleTimeout(Duration clientIdleTimeout) {
+        this.clientIdleTimeout = clientIdleTimeout;
+    }
+
     /**
      * {@code lockRelyingParty} returns {@code true} if the application is configured
      * to lock participants of type {@code openid_relying_party} if the registration data
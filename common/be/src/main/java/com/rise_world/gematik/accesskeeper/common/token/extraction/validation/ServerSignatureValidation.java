@@ -18,13 +18,21 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.security.cert.X509Certificate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Verifies the (server) signature of a JWT
+ * <p>
+ * The verifier for the current signing certificate is kept and only rebuilt if the {@link KeyProvider} returns a
+ * different certificate. If a signature cannot be verified the certificate is reloaded once, so tokens signed with a
+ * freshly rotated key are accepted.
  */
 public class ServerSignatureValidation implements ClaimValidation<IdpJwsJwtCompactConsumer> {
 
     private static final Logger LOG = LoggerFactory.getLogger(ServerSignatureValidation.class);
+    // limits reloads of the certificate caused by tokens with invalid signatures
+    private static final long MIN_RELOAD_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
 
     private KeyProvider keyProvider;
 
@@ -32,6 +40,9 @@ public class ServerSignatureValidation implements ClaimValidation<IdpJwsJwtCompa
     private ErrorMessage wrongAlgoError;
     private ErrorMessage invalidSignatureError;
 
+    private volatile CachedVerifier cachedVerifier;
+    private final AtomicLong lastReload = new AtomicLong(System.nanoTime() - MIN_RELOAD_INTERVAL_NANOS);
+
     public ServerSignatureValidation(KeyProvider keyProvider, ErrorMessage error) {
         this(keyProvider, error, error, error);
     }
@@ -64,14 +75,47 @@ public class ServerSignatureValidation implements ClaimValidation<IdpJwsJwtCompa
             throw new AccessKeeperException(wrongAlgoError);
         }
 
-        X509Certificate certificate = keyProvider.getCertificate(KeyConstants.PUK_IDP_SIG);
-        EcDsaJwsSignatureVerifier signatureVerifier = new EcDsaJwsSignatureVerifier(certificate.getPublicKey(), SignatureAlgorithm.ES256);
+        CachedVerifier verifier = getVerifier();
+        boolean hasValidSignature = consumer.verifySignatureWith(verifier.signatureVerifier());
 
-        boolean hasValidSignature = consumer.verifySignatureWith(signatureVerifier);
+        if (!hasValidSignature) {
+            hasValidSignature = verifyWithReloadedCertificate(consumer, verifier);
+        }
 
         if (!hasValidSignature) {
             // @AFO: A_20504 Token besitzt keine gültige Signatur, damit wird die Verarbeitung mit einer Exception abgebrochen
             throw new AccessKeeperException(invalidSignatureError);
         }
     }
+
+    private CachedVerifier getVerifier() {
+        X509Certificate certificate = keyProvider.getCertificate(KeyConstants.PUK_IDP_SIG);
+        CachedVerifier verifier = cachedVerifier;
+        if (verifier == null || verifier.certificate() != certificate) {
+            verifier = new CachedVerifier(certificate, new EcDsaJwsSignatureVerifier(certificate.getPublicKey(), SignatureAlgorithm.ES256));
+            cachedVerifier = verifier;
+        }
+        return verifier;
+    }
+
+    private boolean verifyWithReloadedCertificate(IdpJwsJwtCompactConsumer consumer, CachedVerifier failedVerifier) {
+        long last = lastReload.get();
+        long now = System.nanoTime();
+        if (now - last < MIN_RELOAD_INTERVAL_NANOS || !lastReload.compareAndSet(last, now)) {
+            return false;
+        }
+
+        // the signing key may have been rotated after the certificate was cached
+        keyProvider.invalidate(KeyConstants.PUK_IDP_SIG);
+        CachedVerifier reloaded = getVerifier();
+        if (reloaded.certificate().equals(failedVerifier.certificate())) {
+            return false;
+        }
+
+        LOG.info("signing certificate {} has been rotated - verifying signature again", KeyConstants.PUK_IDP_SIG);
+        return consumer.verifySignatureWith(reloaded.signatureVerifier());
+    }
+
+    private record CachedVerifier(X509Certificate certificate, EcDsaJwsSignatureVerifier signatureVerifier) {
+    }
 }
@@ -0,0 +1,253 @@
+/*
+ * Urheberrechtshinweis: Diese Software ist urheberrechtlich geschützt. Das Urheberrecht liegt bei
+ * Research Industrial Systems Engineering (RISE) Forschungs-, Entwicklungs- und Großprojektberatung GmbH,
+ * soweit nicht im Folgenden näher gekennzeichnet.
+ */
+package com.rise_world.gematik.accesskeeper.common.util;
+
+import org.slf4j.MDC;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code TimeLimitedExecutor} runs tasks on a fixed pool of daemon threads and enforces a timeout per task.
+ * <p>
+ * An expired task is only interrupted while it executes a section wrapped by {@link #interruptibly(InterruptibleCall)},
+ * e.g. a remote call. Code outside such a section (database transactions, logging) is never interrupted, it can check
+ * {@link Timeout#isExpired()} to stop cooperatively instead.
+ */
+public class TimeLimitedExecutor {
+
+    private static final ThreadLocal<Timeout> CURRENT_TIMEOUT = new ThreadLocal<>();
+
+    private final ExecutorService workerPool;
+    private final ScheduledExecutorService watchdog;
+
+    public TimeLimitedExecutor(String threadNamePrefix, int parallelism) {
+        this.workerPool = Executors.newFixedThreadPool(Math.max(1, parallelism), daemonThreadFactory(threadNamePrefix));
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(daemonThreadFactory(threadNamePrefix + "watchdog-"));
+    }
+
+    /**
+     * {@code invokeAll} executes the given tasks with the MDC of the calling thread and waits until all of them are
+     * completed or the deadline is reached. Tasks not started at the deadline are cancelled, tasks already running are
+     * not interrupted and complete in the background.
+     *
+     * @param tasks    tasks to be executed
+     * @param deadline maximum duration to wait for the tasks
+     * @param <T>      result type of the tasks
+     * @return futures in the order of the given tasks, the futures of tasks not started at the deadline are cancelled
+     * @throws InterruptedException if the calling thread was interrupted while waiting, tasks not started yet are cancelled
+     */
+    public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks, Duration deadline) throws InterruptedException {
+        long deadlineNanos = System.nanoTime() + deadline.toNanos();
+        Map<String, String> contextMap = MDC.getCopyOfContextMap();
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        List<AtomicBoolean> claims = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            // either the worker claims the task to run it or the deadline claims it to skip it, never both
+            AtomicBoolean claimed = new AtomicBoolean();
+            claims.add(claimed);
+            futures.add(workerPool.submit(() -> claimed.compareAndSet(false, true) ? callWithContext(contextMap, task) : null));
+        }
+
+        try {
+            for (Future<T> future : futures) {
+                awaitUntil(future, deadlineNanos);
+            }
+        }
+        catch (TimeoutException ex) {
+            skipUnstarted(futures, claims);
+        }
+        catch (InterruptedException ex) {
+            skipUnstarted(futures, claims);
+            throw ex;
+        }
+        return futures;
+    }
+
+    private static void awaitUntil(Future<?> future, long deadlineNanos) throws InterruptedException, TimeoutException {
+        try {
+            future.get(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+        catch (ExecutionException ex) {
+            // the failure is reported by the returned future
+        }
+    }
+
+    private static <T> void skipUnstarted(List<Future<T>> futures, List<AtomicBoolean> claims) {
+        for (int i = 0; i < futures.size(); i++) {
+            if (claims.get(i).compareAndSet(false, true)) {
+                futures.get(i).cancel(false);
+            }
+        }
+    }
+
+    /**
+     * {@code startTimeout} starts the timeout of the task executed by the current thread. The returned {@link Timeout}
+     * must be closed once the task is completed.
+     *
+     * @param timeout   maximum duration of the task
+     * @param onTimeout invoked by the watchdog when the timeout expires, e.g. to log the timeout
+     * @return the started timeout
+     */
+    public Timeout startTimeout(Duration timeout, Runnable onTimeout) {
+        Timeout started = new Timeout(Thread.currentThread(), onTimeout);
+        started.future = watchdog.schedule(started::expire, timeout.toMillis(), TimeUnit.MILLISECONDS);
+        CURRENT_TIMEOUT.set(started);
+        return started;
+    }
+
+    /**
+     * {@code interruptibly} executes the given call and allows the watchdog to interrupt the current thread if the timeout
+     * of the current task expires meanwhile. Without a started timeout the call is simply executed.
+     *
+     * @param call call to be executed, e.g. a remote call
+     * @param <T>  result type of the call
+     * @param <E>  exception thrown by the call
+     * @return result of the call
+     * @throws E if the call failed
+     */
+    public static <T, E extends Exception> T interruptibly(InterruptibleCall<T, E> call) throws E {
+        Timeout timeout = CURRENT_TIMEOUT.get();
+        if (timeout == null) {
+            return call.call();
+        }
+
+        timeout.enterInterruptible();
+        try {
+            return call.call();
+        }
+        finally {
+            timeout.leaveInterruptible();
+        }
+    }
+
+    /**
+     * {@code shutdown} stops the worker threads and the watchdog, running tasks are interrupted
+     */
+    public void shutdown() {
+        watchdog.shutdownNow();
+        workerPool.shutdownNow();
+    }
+
+    private static <T> T callWithContext(Map<String, String> contextMap, Callable<T> task) throws Exception {
+        try {
+            if (contextMap != null) {
+                MDC.setContextMap(contextMap);
+            }
+            return task.call();
+        }
+        finally {
+            MDC.clear();
+        }
+    }
+
+    private static ThreadFactory daemonThreadFactory(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @FunctionalInterface
+    public interface InterruptibleCall<T, E extends Exception> {
+
+        T call() throws E;
+    }
+
+    /**
+     * {@code Timeout} tracks the timeout of a single task. The watchdog interrupts the worker only while the worker is
+     * inside an interruptible section, an interrupt never leaks beyond that section or into the next task of the worker.
+     */
+    public static final class Timeout implements AutoCloseable {
+
+        private final Thread worker;
+        private final Runnable onTimeout;
+        private final Object lock = new Object();
+        private ScheduledFuture<?> future;
+        private boolean expired;
+        private boolean closed;
+        private boolean interruptible;
+        private boolean interrupted;
+
+        private Timeout(Thread worker, Runnable onTimeout) {
+            this.worker = worker;
+            this.onTimeout = onTimeout;
+        }
+
+        /**
+         * {@code isExpired} returns {@code true} if the timeout expired before the task was completed
+         *
+         * @return {@code true} if the timeout expired
+         */
+        public boolean isExpired() {
+            synchronized (lock) {
+                return expired;
+            }
+        }
+
+        private void expire() {
+            synchronized (lock) {
+                if (closed) {
+                    return;
+                }
+                expired = true;
+                onTimeout.run();
+                if (interruptible) {
+                    interrupted = true;
+                    worker.interrupt();
+                }
+            }
+        }
+
+        private void enterInterruptible() {
+            synchronized (lock) {
+                interruptible = true;
+                if (expired) {
+                    // the timeout already expired, abort the call right away
+                    interrupted = true;
+                    worker.interrupt();
+                }
+            }
+        }
+
+        private void leaveInterruptible() {
+            synchronized (lock) {
+                interruptible = false;
+                if (interrupted) {
+                    interrupted = false;
+                    // the watchdog cannot interrupt anymore, clear its interrupt if the call did not consume it
+                    Thread.interrupted();
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            future.cancel(false);
+            synchronized (lock) {
+                closed = true;
+            }
+            CURRENT_TIMEOUT.remove();
+        }
+    }
+}
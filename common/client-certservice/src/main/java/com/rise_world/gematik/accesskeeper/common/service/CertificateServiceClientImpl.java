@@ -13,6 +13,8 @@ import com.rise_world.epa.certificate.api.rest.model.ParsedOcspResponse;
 import com.rise_world.gematik.accesskeeper.common.exception.AccessKeeperException;
 import com.rise_world.gematik.accesskeeper.common.exception.CertificateServiceException;
 import com.rise_world.gematik.accesskeeper.common.exception.ErrorCodes;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,6 +28,7 @@ import java.net.NoRouteToHostException;
 import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
 import java.net.http.HttpTimeoutException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Base64;
@@ -41,12 +44,21 @@ public class CertificateServiceClientImpl implements CertificateServiceClient {
 
     private final CertificateNonQesApi certificateResource;
     private final long ocspGracePeriod;
+    private final OcspResultCache ocspResultCache;
+    private final Timer ocspCheckTimer;
 
     @Autowired
     public CertificateServiceClientImpl(CertificateNonQesApi certificateResource,
-                                        @Value("${certificateService.ocspGracePeriod}") long ocspGracePeriod) {
+                                        @Value("${certificateService.ocspGracePeriod}") long ocspGracePeriod,
+                                        @Value("${certificateService.ocspCache.ttl:PT0S}") String ocspCacheTtl,
+                                        @Value("${certificateService.ocspCache.maxSize:10000}") int ocspCacheMaxSize,
+                                        MeterRegistry meterRegistry) {
         this.certificateResource = certificateResource;
         this.ocspGracePeriod = ocspGracePeriod;
+        this.ocspResultCache = new OcspResultCache(Duration.parse(ocspCacheTtl), ocspCacheMaxSize, meterRegistry);
+        this.ocspCheckTimer = Timer.builder("ocsp.check.duration")
+            .description("The duration of OCSP checks performed by the CertificateService")
+            .register(meterRegistry);
     }
 
 
@@ -65,6 +77,12 @@ public class CertificateServiceClientImpl implements CertificateServiceClient {
             LOG.warn("auth certificate is missing");
             throw new AccessKeeperException(ErrorCodes.AUTH_INVALID_X509_CERT);
         }
+
+        // only positive verdicts are cached, revoked or unknown certificates are always checked against the CertificateService
+        ocspResultCache.validate(referenceDate, autCert, this::checkX509);
+    }
+
+    private void checkX509(Instant referenceDate, byte[] autCert) {
         CertificateCheckRequest request = new CertificateCheckRequest();
 
         // @AFO: A_4957-01 Es wird der Status von genau einem Zertifikat abgefragt
@@ -86,7 +104,7 @@ public class CertificateServiceClientImpl implements CertificateServiceClient {
         try {
             // @AFO: A_4637, A_4829 TUC Prüfung und Fehlerbehandlung
             // @AFO: A_20465 das CertificateService prüft immer gegen den zugehörigen Responder
-            CertificateCheckResponse response = certificateResource.checkX509(request);
+            CertificateCheckResponse response = ocspCheckTimer.record(() -> certificateResource.checkX509(request));
 
             // @AFO: A_4751 Fehlercodes gemäß Tab_PKI_274 sind in CertificateCheckResponse#errors
             if (!response.getErrors().isEmpty()) {
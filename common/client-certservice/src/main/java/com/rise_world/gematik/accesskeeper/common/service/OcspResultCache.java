@@ -0,0 +1,140 @@
+/*
+ * Urheberrechtshinweis: Diese Software ist urheberrechtlich geschützt. Das Urheberrecht liegt bei
+ * Research Industrial Systems Engineering (RISE) Forschungs-, Entwicklungs- und Großprojektberatung GmbH,
+ * soweit nicht im Folgenden näher gekennzeichnet.
+ */
+package com.rise_world.gematik.accesskeeper.common.service;
+
+import com.rise_world.gematik.accesskeeper.common.util.DigestUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bouncycastle.util.encoders.Hex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * {@code OcspResultCache} remembers successful OCSP checks by certificate fingerprint.
+ * <p>
+ * Only positive verdicts are stored. A cached verdict is valid for {@code ttl} after the reference date of the original
+ * check, but never beyond the end of the certificate's validity. Concurrent checks of the same certificate are coalesced
+ * into a single upstream call whose outcome (including errors) is shared by all waiting callers.
+ */
+class OcspResultCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OcspResultCache.class);
+
+    private final Duration ttl;
+    private final int maxSize;
+    private final Counter hits;
+    private final Counter misses;
+
+    private final ConcurrentHashMap<String, Instant> verifiedUntil = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, CompletableFuture<Void>> pendingChecks = new ConcurrentHashMap<>();
+
+    OcspResultCache(Duration ttl, int maxSize, MeterRegistry meterRegistry) {
+        this.ttl = ttl;
+        this.maxSize = maxSize;
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+    }
+
+    /**
+     * {@code validate} returns immediately if a positive verdict for {@code autCert} is cached for {@code referenceDate},
+     * otherwise {@code check} is executed and a successful result is cached.
+     *
+     * @param referenceDate reference date of the OCSP check
+     * @param autCert       DER encoded certificate
+     * @param check         upstream OCSP check, expected to throw on any non-positive verdict
+     */
+    void validate(Instant referenceDate, byte[] autCert, BiConsumer<Instant, byte[]> check) {
+        if (ttl.isZero()) {
+            misses.increment();
+            check.accept(referenceDate, autCert);
+            return;
+        }
+
+        String fingerprint = Hex.toHexString(DigestUtils.sha256(autCert));
+        Instant expiry = verifiedUntil.get(fingerprint);
+        if (expiry != null && referenceDate.isBefore(expiry)) {
+            hits.increment();
+            return;
+        }
+
+        misses.increment();
+        CompletableFuture<Void> pending = new CompletableFuture<>();
+        CompletableFuture<Void> running = pendingChecks.putIfAbsent(fingerprint, pending);
+        if (running != null) {
+            LOG.debug("OCSP check for certificate {} already in progress - waiting for result", fingerprint);
+            join(running);
+            return;
+        }
+
+        try {
+            check.accept(referenceDate, autCert);
+            store(fingerprint, referenceDate, autCert);
+            pending.complete(null);
+        }
+        catch (RuntimeException e) {
+            pending.completeExceptionally(e);
+            throw e;
+        }
+        finally {
+            pendingChecks.remove(fingerprint, pending);
+        }
+    }
+
+    private void store(String fingerprint, Instant referenceDate, byte[] autCert) {
+        Instant expiry = referenceDate.plus(ttl);
+        try {
+            X509Certificate certificate = (X509Certificate) CertificateFactory.getInstance("X.509")
+                .generateCertificate(new ByteArrayInputStream(autCert));
+            Instant notAfter = certificate.getNotAfter().toInstant();
+            if (notAfter.isBefore(expiry)) {
+                expiry = notAfter;
+            }
+        }
+        catch (CertificateException | ClassCastException e) {
+            LOG.warn("Certificate could not be parsed - OCSP result will not be cached");
+            return;
+        }
+
+        if (verifiedUntil.size() >= maxSize) {
+            verifiedUntil.values().removeIf(referenceDate::isAfter);
+            if (verifiedUntil.size() >= maxSize) {
+                LOG.warn("OCSP result cache is full ({} entries) - result will not be cached", maxSize);
+                return;
+            }
+        }
+        verifiedUntil.put(fingerprint, expiry);
+    }
+
+    private static void join(CompletableFuture<Void> running) {
+        try {
+            running.join();
+        }
+        catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ocsp.cache.requests")
+            .tag("result", result)
+            .description("The number of OCSP checks answered by the OCSP result cache")
+            .register(meterRegistry);
+    }
+}
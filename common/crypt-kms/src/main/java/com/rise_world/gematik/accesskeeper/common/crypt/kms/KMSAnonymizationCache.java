@@ -0,0 +1,125 @@
+/*
+ * Urheberrechtshinweis: Diese Software ist urheberrechtlich geschützt. Das Urheberrecht liegt bei
+ * Research Industrial Systems Engineering (RISE) Forschungs-, Entwicklungs- und Großprojektberatung GmbH,
+ * soweit nicht im Folgenden näher gekennzeichnet.
+ */
+package com.rise_world.gematik.accesskeeper.common.crypt.kms;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * {@code KMSAnonymizationCache} keeps anonymized IdNummern provided by the KMS.
+ * <p>
+ * Entries are keyed by an HMAC of the IdNummer using a random salt which only exists in memory, so the plain IdNummer
+ * is never stored. A cached value is returned for {@code ttl}, a {@code ttl} of zero disables caching.
+ */
+class KMSAnonymizationCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(KMSAnonymizationCache.class);
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final UnaryOperator<String> anonymizer;
+    private final Clock clock;
+    private final Duration ttl;
+    private final int maxSize;
+    private final SecretKeySpec salt;
+    private final Counter hits;
+    private final Counter misses;
+
+    private final ConcurrentHashMap<String, CacheEntry> cache = new ConcurrentHashMap<>();
+
+    KMSAnonymizationCache(UnaryOperator<String> anonymizer, Clock clock, Duration ttl, int maxSize, MeterRegistry meterRegistry) {
+        this.anonymizer = anonymizer;
+        this.clock = clock;
+        this.ttl = ttl;
+        this.maxSize = maxSize;
+
+        byte[] saltBytes = new byte[32];
+        new SecureRandom().nextBytes(saltBytes);
+        this.salt = new SecretKeySpec(saltBytes, HMAC_ALGORITHM);
+        Arrays.fill(saltBytes, (byte) 0);
+
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+    }
+
+    /**
+     * {@code anonymize} returns the cached anonymized value of the given {@code idNummer} and requests it from the KMS
+     * if it is missing or expired
+     *
+     * @param idNummer IdNummer to be anonymized
+     * @return base64url-encoded anonymized IdNummer
+     */
+    String anonymize(String idNummer) {
+        if (ttl.isZero()) {
+            misses.increment();
+            return anonymizer.apply(idNummer);
+        }
+
+        String key = digest(idNummer);
+        Instant now = clock.instant();
+        CacheEntry entry = cache.get(key);
+        if (entry != null && entry.expiresAt().isAfter(now)) {
+            hits.increment();
+            return entry.anonymized();
+        }
+
+        misses.increment();
+        String anonymized = anonymizer.apply(idNummer);
+        store(key, new CacheEntry(anonymized, now.plus(ttl)), now);
+        return anonymized;
+    }
+
+    private void store(String key, CacheEntry entry, Instant now) {
+        if (cache.size() >= maxSize) {
+            cache.values().removeIf(cached -> !cached.expiresAt().isAfter(now));
+            if (cache.size() >= maxSize) {
+                LOG.warn("Anonymization cache is full ({} entries) - anonymized IdNummer will not be cached", maxSize);
+                return;
+            }
+        }
+        cache.put(key, entry);
+    }
+
+    private String digest(String idNummer) {
+        byte[] idNummerBytes = idNummer.getBytes(StandardCharsets.UTF_8);
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(salt);
+            return HexFormat.of().formatHex(mac.doFinal(idNummerBytes));
+        }
+        catch (GeneralSecurityException e) {
+            throw new SecurityException(e);
+        }
+        finally {
+            Arrays.fill(idNummerBytes, (byte) 0);
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("kms.anonymization.cache.requests")
+            .tag("result", result)
+            .description("The number of IdNummer anonymizations served by the KMS anonymization cache")
+            .register(meterRegistry);
+    }
+
+    private record CacheEntry(String anonymized, Instant expiresAt) {
+    }
+}
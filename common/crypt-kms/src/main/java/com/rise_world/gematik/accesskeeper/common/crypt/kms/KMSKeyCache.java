@@ -0,0 +1,141 @@
+/*
+ * Urheberrechtshinweis: Diese Software ist urheberrechtlich geschützt. Das Urheberrecht liegt bei
+ * Research Industrial Systems Engineering (RISE) Forschungs-, Entwicklungs- und Großprojektberatung GmbH,
+ * soweit nicht im Folgenden näher gekennzeichnet.
+ */
+package com.rise_world.gematik.accesskeeper.common.crypt.kms;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * {@code KMSKeyCache} keeps parsed public key material provided by the KMS per key identifier.
+ * <p>
+ * A cached value is returned for {@code ttl}. Once an entry is older than {@code ttl - refreshAhead} it is reloaded in
+ * the background while callers keep receiving the cached value, so key rotations are picked up without blocking
+ * requests. A {@code refreshAhead} exceeding {@code ttl} is clamped to {@code ttl}. A {@code ttl} of zero disables caching.
+ *
+ * @param <T> type of the cached key material
+ */
+class KMSKeyCache<T> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(KMSKeyCache.class);
+
+    private final String name;
+    private final Function<String, T> loader;
+    private final Clock clock;
+    private final Duration ttl;
+    private final Duration refreshAfter;
+    private final Executor refreshExecutor;
+    private final Counter hits;
+    private final Counter misses;
+
+    private final ConcurrentHashMap<String, CacheEntry<T>> cache = new ConcurrentHashMap<>();
+    private final Set<String> pendingRefreshes = ConcurrentHashMap.newKeySet();
+
+    KMSKeyCache(String name, Function<String, T> loader, Clock clock, Duration ttl, Duration refreshAhead, Executor refreshExecutor,
+                MeterRegistry meterRegistry) {
+        this.name = name;
+        this.loader = loader;
+        this.clock = clock;
+        this.ttl = ttl;
+        // a refreshAhead beyond ttl (e.g. if caching is disabled by a ttl of zero) is clamped to ttl
+        this.refreshAfter = refreshAhead.compareTo(ttl) > 0 ? Duration.ZERO : ttl.minus(refreshAhead);
+        this.refreshExecutor = refreshExecutor;
+        this.hits = counter(meterRegistry, name, "hit");
+        this.misses = counter(meterRegistry, name, "miss");
+    }
+
+    /**
+     * {@code get} returns the cached key material for the given {@code kid} and loads it if it is missing or expired
+     *
+     * @param kid key identifier
+     * @return key material for the given {@code kid}
+     */
+    T get(String kid) {
+        if (ttl.isZero()) {
+            misses.increment();
+            return loader.apply(kid);
+        }
+
+        Instant now = clock.instant();
+        CacheEntry<T> entry = cache.get(kid);
+        if (entry != null && !entry.isOlderThan(now, ttl)) {
+            hits.increment();
+            if (entry.isOlderThan(now, refreshAfter)) {
+                refreshAsync(kid);
+            }
+            return entry.value();
+        }
+
+        misses.increment();
+        // loading inside compute ensures that concurrent misses for the same kid only trigger a single KMS request
+        return cache.compute(kid, (k, current) -> current != null && !current.isOlderThan(clock.instant(), ttl) ? current : load(k)).value();
+    }
+
+    /**
+     * {@code invalidate} discards the cached key material for the given {@code kid}
+     *
+     * @param kid key identifier
+     */
+    void invalidate(String kid) {
+        if (cache.remove(kid) != null) {
+            LOG.info("Invalidated {} {} in KMS key cache", name, kid);
+        }
+    }
+
+    /**
+     * {@code invalidateAll} discards all cached key material
+     */
+    void invalidateAll() {
+        cache.clear();
+        LOG.info("Invalidated all {} entries in KMS key cache", name);
+    }
+
+    private void refreshAsync(String kid) {
+        if (!pendingRefreshes.add(kid)) {
+            return;
+        }
+
+        refreshExecutor.execute(() -> {
+            try {
+                cache.put(kid, load(kid));
+            }
+            catch (RuntimeException e) {
+                LOG.warn("Failed to refresh {} {} - keeping cached value", name, kid, e);
+            }
+            finally {
+                pendingRefreshes.remove(kid);
+            }
+        });
+    }
+
+    private CacheEntry<T> load(String kid) {
+        LOG.debug("Loading {} {} from KMS", name, kid);
+        return new CacheEntry<>(loader.apply(kid), clock.instant());
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, String result) {
+        return Counter.builder("kms.key.cache.requests")
+            .tags("cache", name, "result", result)
+            .description("The number of key material lookups served by the KMS key cache")
+            .register(meterRegistry);
+    }
+
+    private record CacheEntry<T>(T value, Instant loadedAt) {
+
+        boolean isOlderThan(Instant now, Duration age) {
+            return !loadedAt.plus(age).isAfter(now);
+        }
+    }
+}
@@ -18,6 +18,7 @@ import com.rise_world.gematik.idp.kms.api.rest.PairingResource;
 import com.rise_world.gematik.idp.kms.api.rest.TokenResource;
 import com.rise_world.gematik.idp.kms.api.rest.model.JwkEcPublicKey;
 import com.rise_world.gematik.idp.kms.api.rest.model.KeyType;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.cxf.rs.security.jose.jwa.ContentAlgorithm;
 import org.apache.cxf.rs.security.jose.jwe.AesGcmContentDecryptionAlgorithm;
 import org.apache.cxf.rs.security.jose.jwe.JweDecryption;
@@ -28,8 +29,10 @@ import org.apache.cxf.rt.security.crypto.CryptoUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import jakarta.annotation.PreDestroy;
 import java.io.ByteArrayInputStream;
 import java.math.BigInteger;
 import java.security.KeyFactory;
@@ -44,7 +47,14 @@ import java.security.spec.ECGenParameterSpec;
 import java.security.spec.ECParameterSpec;
 import java.security.spec.ECPoint;
 import java.security.spec.ECPublicKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static com.rise_world.gematik.accesskeeper.common.crypt.CryptoConstants.BOUNCY_CASTLE;
 
@@ -59,13 +69,44 @@ public class KMSProviderFactory implements EncryptionProviderFactory, Decryption
     private CertificateResource certResource;
     private PairingResource pairingResource;
 
+    private final Map<String, ECParameterSpec> curveParameters = new ConcurrentHashMap<>();
+    private final KMSKeyCache<ECPublicKey> keyCache;
+    private final KMSKeyCache<X509Certificate> certificateCache;
+    private final KMSAnonymizationCache anonymizationCache;
+    private final ExecutorService refreshExecutor;
+
     @Autowired
-    public KMSProviderFactory(TokenResource tokenResource, CertificateResource certResource, PairingResource pairingResource) {
+    public KMSProviderFactory(TokenResource tokenResource, CertificateResource certResource, PairingResource pairingResource,
+                              Clock clock, MeterRegistry meterRegistry,
+                              @Value("${kms.keyCache.ttl:PT5M}") String keyCacheTtl,
+                              @Value("${kms.keyCache.refreshAhead:PT1M}") String keyCacheRefreshAhead,
+                              @Value("${kms.anonymizationCache.ttl:PT10M}") String anonymizationCacheTtl,
+                              @Value("${kms.anonymizationCache.maxSize:10000}") int anonymizationCacheMaxSize) {
         this.tokenResource = tokenResource;
         this.certResource = certResource;
         this.pairingResource = pairingResource;
 
-        LOG.info("KMSProviderFactory was initialized");
+        Duration ttl = Duration.parse(keyCacheTtl);
+        Duration refreshAhead = Duration.parse(keyCacheRefreshAhead);
+        this.refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "kms-key-cache-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.keyCache = new KMSKeyCache<>("key", this::loadKey, clock, ttl, refreshAhead, refreshExecutor, meterRegistry);
+        this.certificateCache = new KMSKeyCache<>("certificate", this::loadCertificate, clock, ttl, refreshAhead, refreshExecutor, meterRegistry);
+        this.anonymizationCache = new KMSAnonymizationCache(this::loadAnonymizedIdNummer, clock, Duration.parse(anonymizationCacheTtl),
+            anonymizationCacheMaxSize, meterRegistry);
+
+        LOG.info("KMSProviderFactory was initialized with key cache ttl {}", ttl);
+    }
+
+    /**
+     * {@code shutdown} stops the background refresh of cached keys and certificates
+     */
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
     }
 
     @Override
@@ -111,6 +152,29 @@ public class KMSProviderFactory implements EncryptionProviderFactory, Decryption
 
     @Override
     public ECPublicKey getKey(String kid) {
+        return keyCache.get(kid);
+    }
+
+    @Override
+    public X509Certificate getCertificate(String kid) {
+        return certificateCache.get(kid);
+    }
+
+    @Override
+    public void invalidate(String kid) {
+        keyCache.invalidate(kid);
+        certificateCache.invalidate(kid);
+    }
+
+    /**
+     * {@code invalidateAll} discards all cached keys and certificates, e.g. after a key rotation in the KMS
+     */
+    public void invalidateAll() {
+        keyCache.invalidateAll();
+        certificateCache.invalidateAll();
+    }
+
+    private ECPublicKey loadKey(String kid) {
         final JwkEcPublicKey keyDefinition;
 
         if (KeyConstants.PUK_IDP_ENC.equals(kid)) {
@@ -134,11 +198,7 @@ public class KMSProviderFactory implements EncryptionProviderFactory, Decryption
 
     private ECPublicKey createECKey(String curve, String encodedXPoint, String encodedYPoint) {
         try {
-            KeyPairGenerator kpg = KeyPairGenerator.getInstance("EC", BOUNCY_CASTLE);
-            ECGenParameterSpec params = new ECGenParameterSpec(curve);
-            kpg.initialize(params);
-            KeyPair pair = kpg.generateKeyPair();
-            ECParameterSpec pubParam = ((ECPublicKey) pair.getPublic()).getParams();
+            ECParameterSpec pubParam = curveParameters.computeIfAbsent(curve, KMSProviderFactory::createCurveParameters);
 
             byte[] decodedX = CryptoUtils.decodeSequence(encodedXPoint);
             byte[] decodedY = CryptoUtils.decodeSequence(encodedYPoint);
@@ -153,8 +213,19 @@ public class KMSProviderFactory implements EncryptionProviderFactory, Decryption
         }
     }
 
-    @Override
-    public X509Certificate getCertificate(String kid) {
+    private static ECParameterSpec createCurveParameters(String curve) {
+        try {
+            KeyPairGenerator kpg = KeyPairGenerator.getInstance("EC", BOUNCY_CASTLE);
+            kpg.initialize(new ECGenParameterSpec(curve));
+            KeyPair pair = kpg.generateKeyPair();
+            return ((ECPublicKey) pair.getPublic()).getParams();
+        }
+        catch (Exception ex) {
+            throw new SecurityException(ex);
+        }
+    }
+
+    private X509Certificate loadCertificate(String kid) {
         try {
             byte[] latestCertificate = certResource.getLatestCertificate(toKeyType(kid));
             return (X509Certificate) CertificateFactory.getInstance("X.509", BOUNCY_CASTLE).generateCertificate(new ByteArrayInputStream(latestCertificate));
@@ -189,6 +260,16 @@ public class KMSProviderFactory implements EncryptionProviderFactory, Decryption
 
     @Override
     public String anonymizeIdNummer(String idNummer) {
-        return BASE64URL_ENCODER.encodeToString(pairingResource.anonymizeIdNummer(idNummer));
+        return anonymizationCache.anonymize(idNummer);
+    }
+
+    private String loadAnonymizedIdNummer(String idNummer) {
+        byte[] anonymized = pairingResource.anonymizeIdNummer(idNummer);
+        try {
+            return BASE64URL_ENCODER.encodeToString(anonymized);
+        }
+        finally {
+            Arrays.fill(anonymized, (byte) 0);
+        }
     }
 }
@@ -42,6 +42,11 @@ public class FederationMasterConfiguration {
     @DurationUnit(ChronoUnit.SECONDS)
     private Duration tokenTimeout;
 
+    @DurationUnit(ChronoUnit.SECONDS)
+    private Duration responseCacheTtl = Duration.ofSeconds(60);
+
+    private int responseCacheMaxSize = 10000;
+
     public String getIssuer() {
         return issuer;
     }
@@ -58,6 +63,22 @@ public class FederationMasterConfiguration {
         this.tokenTimeout = tokenTimeout;
     }
 
+    public Duration getResponseCacheTtl() {
+        return responseCacheTtl;
+    }
+
+    public void setResponseCacheTtl(Duration responseCacheTtl) {
+        this.responseCacheTtl = responseCacheTtl;
+    }
+
+    public int getResponseCacheMaxSize() {
+        return responseCacheMaxSize;
+    }
+
+    public void setResponseCacheMaxSize(int responseCacheMaxSize) {
+        this.responseCacheMaxSize = responseCacheMaxSize;
+    }
+
     @Bean
     public DbSchedulerCustomizer dbSchedulerCustomizer() {
         return new DbSchedulerCustomizer() {
@@ -13,8 +13,13 @@ package com.rise_world.gematik.accesskeeper.fedmaster.ctr;
 
 import com.rise_world.gematik.accesskeeper.fedmaster.dto.CtRecordDto;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * Accessing Certificate Transparency Records from a CTR provider
@@ -29,15 +34,104 @@ public interface CertificateTransparencyProvider {
      */
     List<CtRecordDto> fetch(String domain);
 
+    /**
+     * Fetches Certificate Transparency Records for a specific domain and passes them to {@code consumer}
+     * as they are received, so providers with paged results do not have to keep all records in memory
+     *
+     * @param domain   domain to be checked
+     * @param consumer receives every matching CT record
+     */
+    default void fetch(String domain, Consumer<CtRecordDto> consumer) {
+        fetch(domain).forEach(consumer);
+    }
+
     /**
      * {@code cacheable} wraps a {@link CertificateTransparencyProvider}
-     * and stores the returned values by domain
+     * and stores the returned values of shared domains by domain
+     * <p>
+     * Records of other domains are streamed without being kept, so paged providers only hold a single page in memory.
      *
      * @param provider {@link CertificateTransparencyProvider}
-     * @return {@link CertificateTransparencyProvider} backed by a ConcurrentHashMap to store already fetched domains
+     * @param shared   returns {@code true} for domains which are checked more than once
+     * @return {@link CertificateTransparencyProvider} backed by a ConcurrentHashMap to store already fetched shared domains
      */
-    static CertificateTransparencyProvider cacheable(CertificateTransparencyProvider provider) {
-        var cache = new ConcurrentHashMap<String, List<CtRecordDto>>();
-        return domain -> cache.computeIfAbsent(domain, k -> List.copyOf(provider.fetch(k)));
+    static CertificateTransparencyProvider cacheable(CertificateTransparencyProvider provider, Predicate<String> shared) {
+        var cache = new ConcurrentHashMap<String, CompletableFuture<List<CtRecordDto>>>();
+        return new CertificateTransparencyProvider() {
+
+            @Override
+            public List<CtRecordDto> fetch(String domain) {
+                if (!shared.test(domain)) {
+                    return provider.fetch(domain);
+                }
+                return fetchCached(provider, cache, domain, ctr -> {
+                });
+            }
+
+            @Override
+            public void fetch(String domain, Consumer<CtRecordDto> consumer) {
+                if (!shared.test(domain)) {
+                    provider.fetch(domain, consumer);
+                    return;
+                }
+                fetchCached(provider, cache, domain, consumer);
+            }
+        };
+    }
+
+    private static List<CtRecordDto> fetchCached(CertificateTransparencyProvider provider,
+                                                 ConcurrentHashMap<String, CompletableFuture<List<CtRecordDto>>> cache,
+                                                 String domain,
+                                                 Consumer<CtRecordDto> consumer) {
+        // concurrent checks of the same domain wait for the fetch already in flight instead of fetching the domain again
+        var fetch = new CompletableFuture<List<CtRecordDto>>();
+        var inFlight = cache.putIfAbsent(domain, fetch);
+        if (inFlight != null) {
+            var records = await(inFlight);
+            records.forEach(consumer);
+            return records;
+        }
+
+        // a failing consumer only fails its own check, the records are still fetched for the waiting checks
+        var records = new ArrayList<CtRecordDto>();
+        RuntimeException[] consumerFailure = {null};
+        try {
+            provider.fetch(domain, ctr -> {
+                records.add(ctr);
+                if (consumerFailure[0] == null) {
+                    try {
+                        consumer.accept(ctr);
+                    }
+                    catch (RuntimeException e) {
+                        consumerFailure[0] = e;
+                    }
+                }
+            });
+        }
+        catch (RuntimeException e) {
+            // failed fetches are not cached, so a later check of the domain tries again
+            cache.remove(domain, fetch);
+            fetch.completeExceptionally(e);
+            throw e;
+        }
+
+        var fetched = List.copyOf(records);
+        fetch.complete(fetched);
+        if (consumerFailure[0] != null) {
+            throw consumerFailure[0];
+        }
+        return fetched;
+    }
+
+    private static List<CtRecordDto> await(CompletableFuture<List<CtRecordDto>> fetch) {
+        try {
+            return fetch.join();
+        }
+        catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
 }
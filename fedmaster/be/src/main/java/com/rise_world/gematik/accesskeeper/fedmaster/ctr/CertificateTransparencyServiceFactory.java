@@ -15,7 +15,12 @@ import com.rise_world.gematik.accesskeeper.fedmaster.util.CtrCheckLog;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import jakarta.annotation.PreDestroy;
 import java.time.Clock;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Factory to create a {@link CertificateTransparencyService} used during a monitoring job run ({@link CertificateTransparencyCheckTask})
@@ -31,6 +36,8 @@ public class CertificateTransparencyServiceFactory {
     private final TransactionTemplate transactionTemplate;
     private final SslMateProvider sslMateProvider;
     private final CrtShProvider crtShProvider;
+    // shared by all monitoring runs, the number of concurrent requests to the CTR providers is bounded by its size
+    private final ExecutorService checkExecutor;
 
     public CertificateTransparencyServiceFactory(CertificateTransparencyConfiguration config,
                                                  DomainRepository domainRepository,
@@ -48,6 +55,12 @@ public class CertificateTransparencyServiceFactory {
         this.transactionTemplate = transactionTemplate;
         this.sslMateProvider = sslMateProvider;
         this.crtShProvider = crtShProvider;
+        this.checkExecutor = Executors.newFixedThreadPool(Math.max(1, config.getParallelism()), daemonThreadFactory("ctr-check-"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        checkExecutor.shutdownNow();
     }
 
     /**
@@ -66,7 +79,8 @@ public class CertificateTransparencyServiceFactory {
             participantRepository,
             clock,
             transactionTemplate,
-            CertificateTransparencyProvider.cacheable(ctrProvider(provider)),
+            checkExecutor,
+            ctrProvider(provider),
             ctrCheckLog,
             provider);
     }
@@ -77,4 +91,13 @@ public class CertificateTransparencyServiceFactory {
             case CRT_SH -> crtShProvider;
         };
     }
+
+    private static ThreadFactory daemonThreadFactory(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
 }
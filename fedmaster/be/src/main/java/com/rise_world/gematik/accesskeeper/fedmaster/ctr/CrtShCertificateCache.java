@@ -0,0 +1,91 @@
+/*
+ * Urheberrechtshinweis: Diese Software ist urheberrechtlich geschützt. Das Urheberrecht liegt bei
+ * Research Industrial Systems Engineering (RISE) Forschungs-, Entwicklungs- und Großprojektberatung GmbH,
+ * soweit nicht im Folgenden näher gekennzeichnet.
+ */
+package com.rise_world.gematik.accesskeeper.fedmaster.ctr;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * {@code CrtShCertificateCache} keeps details of crt.sh certificates by their crt.sh id.
+ * <p>
+ * A crt.sh certificate is immutable, so its public key hash is kept until the entry is evicted. The revocation
+ * status is the only detail that can change and is fetched again once it is older than the recheck interval.
+ */
+class CrtShCertificateCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CrtShCertificateCache.class);
+
+    private final Clock clock;
+    private final Duration revocationRecheckInterval;
+    private final int maxSize;
+    private final ConcurrentHashMap<String, CertificateDetails> cache = new ConcurrentHashMap<>();
+
+    CrtShCertificateCache(Clock clock, Duration revocationRecheckInterval, int maxSize) {
+        this.clock = clock;
+        this.revocationRecheckInterval = revocationRecheckInterval;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * {@code publicKeyHash} returns the cached public key hash of the certificate or calculates it using the {@code loader}
+     *
+     * @param id     crt.sh id of the certificate
+     * @param loader calculates the public key hash, empty results are not cached
+     * @return the public key hash or {@link Optional#empty()} if it could not be calculated
+     */
+    Optional<String> publicKeyHash(String id, Supplier<Optional<String>> loader) {
+        var cached = cache.get(id);
+        if (cached != null) {
+            return Optional.of(cached.publicKeyHash());
+        }
+
+        var hash = loader.get();
+        hash.ifPresent(value -> store(id, new CertificateDetails(value, null, null)));
+        return hash;
+    }
+
+    /**
+     * {@code revoked} returns the cached revocation status of the certificate or fetches it using the {@code loader}
+     * if it is unknown or older than the recheck interval
+     *
+     * @param id     crt.sh id of the certificate
+     * @param loader fetches the revocation status
+     * @return {@code true} if the certificate is revoked
+     */
+    boolean revoked(String id, BooleanSupplier loader) {
+        var now = clock.instant();
+        var cached = cache.get(id);
+        if (cached != null && cached.revoked() != null) {
+            // a revoked certificate can not become valid again
+            if (cached.revoked() || cached.revocationCheckedAt().plus(revocationRecheckInterval).isAfter(now)) {
+                return cached.revoked();
+            }
+        }
+
+        var revoked = loader.getAsBoolean();
+        cache.computeIfPresent(id, (key, details) -> new CertificateDetails(details.publicKeyHash(), revoked, now));
+        return revoked;
+    }
+
+    private void store(String id, CertificateDetails details) {
+        if (cache.size() >= maxSize) {
+            LOG.info("crt.sh certificate cache reached {} entries - clearing cache", maxSize);
+            cache.clear();
+        }
+        cache.putIfAbsent(id, details);
+    }
+
+    private record CertificateDetails(String publicKeyHash, Boolean revoked, Instant revocationCheckedAt) {
+    }
+}
@@ -12,6 +12,7 @@ import org.springframework.context.annotation.Configuration;
 import java.net.URI;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Objects;
 
 @Configuration
@@ -26,6 +27,13 @@ public class CrtShConfiguration {
 
     private String endpoint;
 
+    @DurationUnit(ChronoUnit.SECONDS)
+    private Duration revocationRecheckInterval = Duration.ofHours(1);
+
+    private int certificateCacheMaxSize = 50_000;
+
+    private List<CtrProviderRateLimit> limits = List.of();
+
     public Duration getConnectionTimeout() {
         return connectionTimeout;
     }
@@ -50,6 +58,30 @@ public class CrtShConfiguration {
         this.endpoint = enforceHttps(endpoint);
     }
 
+    public Duration getRevocationRecheckInterval() {
+        return revocationRecheckInterval;
+    }
+
+    public void setRevocationRecheckInterval(Duration revocationRecheckInterval) {
+        this.revocationRecheckInterval = revocationRecheckInterval;
+    }
+
+    public int getCertificateCacheMaxSize() {
+        return certificateCacheMaxSize;
+    }
+
+    public void setCertificateCacheMaxSize(int certificateCacheMaxSize) {
+        this.certificateCacheMaxSize = certificateCacheMaxSize;
+    }
+
+    public List<CtrProviderRateLimit> getLimits() {
+        return limits;
+    }
+
+    public void setLimits(List<CtrProviderRateLimit> limits) {
+        this.limits = limits;
+    }
+
     private static String enforceHttps(String endpoint) {
 
         if (!Objects.equals(URI.create(endpoint).getScheme(), "https")) {
@@ -15,6 +15,7 @@ import com.rise_world.gematik.accesskeeper.fedmaster.util.PemUtils;
 import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.WebApplicationException;
 import org.bouncycastle.asn1.x509.Certificate;
@@ -28,6 +29,7 @@ import java.net.ConnectException;
 import java.net.NoRouteToHostException;
 import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
+import java.time.Clock;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.BiConsumer;
@@ -43,23 +45,35 @@ public class CrtShProvider implements CertificateTransparencyProvider {
     private final CrtShMonitor client;
     private final CrtShPageParser parser;
     private final CircuitBreaker circuitBreaker;
+    private final CrtShCertificateCache certificateCache;
+    private final CtrProviderRateLimiter rateLimiter;
 
     public CrtShProvider(CrtShMonitorFactory factory,
                   CrtShPageParser parser,
-                  CircuitBreakerRegistry circuitBreakerRegistry) {
+                  CircuitBreakerRegistry circuitBreakerRegistry,
+                  CrtShConfiguration configuration,
+                  RateLimitWaitHandler waitHandler,
+                  Clock clock,
+                  MeterRegistry meterRegistry) {
         this.parser = parser;
         client = factory.createMonitor();
         circuitBreaker = circuitBreakerRegistry.circuitBreaker("crtShCtrProvider");
+        certificateCache = new CrtShCertificateCache(clock, configuration.getRevocationRecheckInterval(), configuration.getCertificateCacheMaxSize());
+        rateLimiter = new CtrProviderRateLimiter("crtsh", configuration.getLimits(), waitHandler, clock, meterRegistry);
     }
 
     @Override
     public List<CtRecordDto> fetch(String domain) {
 
         try {
-            return circuitBreaker.executeCallable(() -> client.fetch(domain, CrtShMonitor.EXCLUDE_VALUE, CrtShMonitor.MATCH_VALUE, CrtShMonitor.DEDUPLICATION_VALUE)
-                .stream()
-                .mapMulti(toRecord(domain))
-                .toList());
+            // tokens are acquired before entering the circuit breaker, so waiting for or exceeding the local rate limit
+            // is not recorded as a failure of crt.sh
+            rateLimiter.acquire();
+            var crtShRecords = circuitBreaker.executeSupplier(() ->
+                client.fetch(domain, CrtShMonitor.EXCLUDE_VALUE, CrtShMonitor.MATCH_VALUE, CrtShMonitor.DEDUPLICATION_VALUE));
+            return crtShRecords.stream()
+                .<CtRecordDto>mapMulti(toRecord(domain))
+                .toList();
         }
         catch (WebApplicationException e) {
             throw new CtrServiceException("Request to crt.sh failed for domain " + domain, e);
@@ -78,7 +92,7 @@ public class CrtShProvider implements CertificateTransparencyProvider {
                 throw new CertificateTransparencyProviderException("crt.sh could not be accessed", e);
             }
         }
-        catch (CertificateTransparencyProviderException e) {
+        catch (CertificateTransparencyProviderException | RequestLimitExceededException e) {
             throw e;
         }
         catch (CrtShPageParsingException e) {
@@ -93,7 +107,8 @@ public class CrtShProvider implements CertificateTransparencyProvider {
 
         return (crtShRecord, consumer) -> {
 
-            var hash = calculateHash(crtShRecord.getId(), domain);
+            // certificate details are only requested from crt.sh for certificates not seen before
+            var hash = certificateCache.publicKeyHash(crtShRecord.getId(), () -> calculateHash(crtShRecord.getId(), domain));
             if (hash.isEmpty()) {
                 return;
             }
@@ -104,13 +119,14 @@ public class CrtShProvider implements CertificateTransparencyProvider {
                 hash.get(),
                 crtShRecord.getNotBefore(),
                 crtShRecord.getNotAfter(),
-                fetchRevokation(crtShRecord.getId())));
+                certificateCache.revoked(crtShRecord.getId(), () -> fetchRevokation(crtShRecord.getId()))));
         };
     }
 
     private Optional<String> calculateHash(String id, String domain) {
 
-        var certificate = client.certificate(id);
+        rateLimiter.acquire();
+        var certificate = circuitBreaker.executeSupplier(() -> client.certificate(id));
         if (isNull(certificate)) {
             return Optional.empty();
         }
@@ -122,8 +138,8 @@ public class CrtShProvider implements CertificateTransparencyProvider {
     }
 
     private boolean fetchRevokation(String id) {
-        var html = client.certificatePage(id, CrtShMonitor.OPTION_OCSP);
-        return parser.parse(html).revoked();
+        rateLimiter.acquire();
+        return circuitBreaker.executeSupplier(() -> parser.parse(client.certificatePage(id, CrtShMonitor.OPTION_OCSP)).revoked());
     }
 
     private Optional<byte[]> extractPublicKey(String id, Certificate certificate, String domain) {
@@ -0,0 +1,115 @@
+/*
+ * Urheberrechtshinweis: Diese Software ist urheberrechtlich geschützt. Das Urheberrecht liegt bei
+ * Research Industrial Systems Engineering (RISE) Forschungs-, Entwicklungs- und Großprojektberatung GmbH,
+ * soweit nicht im Folgenden näher gekennzeichnet.
+ */
+package com.rise_world.gematik.accesskeeper.fedmaster.ctr;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@code CtrProviderRateLimiter} keeps the requests to a certificate transparency provider within the configured
+ * {@link CtrProviderRateLimit limits}. It is thread-safe and can be shared by concurrent workers.
+ * <p>
+ * Each limit is a token bucket. A {@link CtrProviderRateLimitType#TERMINATE} limit holds {@code capacity} tokens, a waiting
+ * limit holds {@code capacity - 1} tokens (one less than allowed to avoid discrepancies between client and server
+ * algorithms). A token is returned to the bucket one {@code period} after it was used.
+ * Callers reserve a token of every limit while holding a short lock and wait for the reserved time without holding it.
+ */
+public class CtrProviderRateLimiter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CtrProviderRateLimiter.class);
+
+    private final String provider;
+    private final RateLimitWaitHandler waitHandler;
+    private final Clock clock;
+    private final List<TokenBucket> buckets;
+    private final Timer waitTimer;
+
+    public CtrProviderRateLimiter(String provider, List<CtrProviderRateLimit> limits, RateLimitWaitHandler waitHandler, Clock clock,
+                                  MeterRegistry meterRegistry) {
+        this.provider = provider;
+        this.waitHandler = waitHandler;
+        this.clock = clock;
+        this.buckets = limits.stream().map(TokenBucket::new).toList();
+        this.waitTimer = Timer.builder("ctr.ratelimit.wait")
+            .tag("provider", provider)
+            .description("The time spent waiting for the rate limit of a certificate transparency provider")
+            .register(meterRegistry);
+    }
+
+    /**
+     * {@code acquire} checks if the request is allowed or if any of the configured {@link CtrProviderRateLimit limits} is exceeded.
+     * <p>
+     * if the exceeded {@link CtrProviderRateLimit limit} is of type {@link CtrProviderRateLimitType#TERMINATE} a {@link RequestLimitExceededException}
+     * will be thrown otherwise this method blocks until the next request is allowed.
+     */
+    public void acquire() {
+        if (buckets.isEmpty()) {
+            return;
+        }
+
+        var now = clock.instant();
+        var permittedAt = reserve(now);
+
+        var timeToWait = Duration.between(now, permittedAt);
+        waitTimer.record(timeToWait.isNegative() ? Duration.ZERO : timeToWait);
+        if (!timeToWait.isZero() && !timeToWait.isNegative()) {
+            LOG.info("rate limit of {} exceeded, waiting for {}", provider, timeToWait);
+            waitHandler.sleep(timeToWait);
+        }
+    }
+
+    private synchronized Instant reserve(Instant now) {
+        var permittedAt = now;
+        for (var bucket : buckets) {
+            var available = bucket.nextAvailable();
+            if (available.isAfter(now) && bucket.limit.getType() == CtrProviderRateLimitType.TERMINATE) {
+                throw new RequestLimitExceededException("request limit of %d requests per %s exceeded"
+                    .formatted(bucket.limit.getCapacity(), bucket.limit.getPeriod()));
+            }
+            if (available.isAfter(permittedAt)) {
+                permittedAt = available;
+            }
+        }
+
+        for (var bucket : buckets) {
+            bucket.take(permittedAt);
+        }
+        return permittedAt;
+    }
+
+    private static final class TokenBucket {
+
+        private final CtrProviderRateLimit limit;
+        // points in time at which the tokens become available again, used as ring buffer
+        private final Instant[] refills;
+        private int next;
+
+        private TokenBucket(CtrProviderRateLimit limit) {
+            this.limit = limit;
+            // a terminating limit allows exactly capacity requests before the run is aborted
+            int tokens = limit.getType() == CtrProviderRateLimitType.TERMINATE ? limit.getCapacity() : limit.getCapacity() - 1;
+            this.refills = new Instant[Math.max(1, tokens)];
+            Arrays.fill(refills, Instant.MIN);
+        }
+
+        Instant nextAvailable() {
+            return refills[next];
+        }
+
+        void take(Instant usedAt) {
+            refills[next] = usedAt.plus(limit.getPeriod());
+            next = (next + 1) % refills.length;
+        }
+    }
+}
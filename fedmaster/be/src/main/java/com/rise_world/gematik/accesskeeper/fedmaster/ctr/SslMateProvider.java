@@ -13,6 +13,7 @@ import com.rise_world.gematik.accesskeeper.sslmate.SslMateMonitor;
 import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.cxf.jaxrs.client.Client;
 import org.apache.cxf.jaxrs.client.ClientConfiguration;
@@ -31,10 +32,12 @@ import java.net.ConnectException;
 import java.net.NoRouteToHostException;
 import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
+import java.time.Clock;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static com.rise_world.gematik.accesskeeper.fedmaster.FederationMasterConfiguration.USER_AGENT;
 
@@ -48,25 +51,32 @@ public class SslMateProvider implements CertificateTransparencyProvider {
     private final JacksonJsonProvider jacksonJsonProvider;
     private final SslMateConfiguration configuration;
     private final CircuitBreakerRegistry circuitBreakerRegistry;
-    private final SslMateRateLimiter rateLimiter;
+    private final CtrProviderRateLimiter rateLimiter;
+    private final SslMateMonitor client;
 
     public SslMateProvider(SslMateConfiguration configuration,
                            JacksonJsonProvider jacksonJsonProvider,
                            CircuitBreakerRegistry circuitBreakerRegistry,
-                           SslMateRateLimiter rateLimiter) {
+                           RateLimitWaitHandler waitHandler,
+                           Clock clock,
+                           MeterRegistry meterRegistry) {
         this.configuration = configuration;
         this.jacksonJsonProvider = jacksonJsonProvider;
         this.circuitBreakerRegistry = circuitBreakerRegistry;
-        this.rateLimiter = rateLimiter;
+        this.rateLimiter = new CtrProviderRateLimiter("sslmate", configuration.getLimits(), waitHandler, clock, meterRegistry);
+        this.client = createClient();
     }
 
     @Override
     public List<CtRecordDto> fetch(String domain) {
-        List<CertificateTransparencyRecord> records = internalFetch(this.createClient(), domain);
+        List<CtRecordDto> records = new ArrayList<>();
+        fetch(domain, records::add);
+        return records;
+    }
 
-        return records.stream()
-            .map(this::toRecord)
-            .toList();
+    @Override
+    public void fetch(String domain, Consumer<CtRecordDto> consumer) {
+        internalFetch(domain, ctr -> consumer.accept(toRecord(ctr)));
     }
 
     private CtRecordDto toRecord(CertificateTransparencyRecord ctr) {
@@ -79,16 +89,17 @@ public class SslMateProvider implements CertificateTransparencyProvider {
             ctr.revoked());
     }
 
-    private List<CertificateTransparencyRecord> internalFetch(SslMateMonitor client, String domain) {
+    private void internalFetch(String domain, Consumer<CertificateTransparencyRecord> consumer) {
         LOG.debug("fetching domain {}", domain);
         CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(configuration.getEndpoint());
-        LinkedList<CertificateTransparencyRecord> records = new LinkedList<>();
+        // only the cursor of the last page is kept, records are passed on page by page
+        String lastId = null;
         boolean foundRecords;
         int pageCount = 0;
         boolean pageLimitReached = false;
         try {
             do {
-                String after = records.isEmpty() ? null : records.getLast().id();
+                String after = lastId;
 
                 rateLimiter.acquire();
 
@@ -102,7 +113,8 @@ public class SslMateProvider implements CertificateTransparencyProvider {
 
                 if (foundRecords) {
                     LOG.debug("found {} record(s) for domain {}", result.size(), domain);
-                    records.addAll(result);
+                    result.forEach(consumer);
+                    lastId = result.get(result.size() - 1).id();
                 }
 
                 if (++pageCount >= configuration.getPageLimit()) {
@@ -141,12 +153,11 @@ public class SslMateProvider implements CertificateTransparencyProvider {
         catch (Exception e) {
             throw new CertificateTransparencyProviderException("SslMate could not be accessed", e);
         }
-
-        return records;
     }
 
     private SslMateMonitor createClient() {
-        SslMateMonitor sslMateMonitor = JAXRSClientFactory.create(configuration.getEndpoint(), SslMateMonitor.class, Collections.singletonList(jacksonJsonProvider), false);
+        // the client is shared by all checks, so it has to be thread-safe
+        SslMateMonitor sslMateMonitor = JAXRSClientFactory.create(configuration.getEndpoint(), SslMateMonitor.class, Collections.singletonList(jacksonJsonProvider), true);
         Client restClient = WebClient.client(sslMateMonitor);
 
         if (StringUtils.isNotEmpty(configuration.getApiKey())) {
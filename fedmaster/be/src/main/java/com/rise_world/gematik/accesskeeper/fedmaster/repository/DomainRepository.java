@@ -7,6 +7,7 @@ package com.rise_world.gematik.accesskeeper.fedmaster.repository;
 
 import com.rise_world.gematik.accesskeeper.fedmaster.dto.ParticipantDomainDto;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -23,16 +24,16 @@ public interface DomainRepository {
     List<ParticipantDomainDto> findByParticipant(Long identifier);
 
     /**
-     * Removes a domain from the repository
+     * Removes domains from the repository using a single batch
      *
-     * @param identifier to be removed
+     * @param identifiers to be removed
      */
-    void delete(Long identifier);
+    void deleteAll(Collection<Long> identifiers);
 
     /**
-     * Saves a domain to the repository
+     * Saves domains to the repository using a single batch
      *
-     * @param domain to be saved
+     * @param domains to be saved
      */
-    void save(ParticipantDomainDto domain);
+    void saveAll(Collection<ParticipantDomainDto> domains);
 }
@@ -15,13 +15,13 @@ import com.rise_world.gematik.accesskeeper.fedmaster.dto.ParticipantDomainDto;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Repository;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 
 @Repository
 public class DomainRepositoryImpl extends JdbcRepository implements DomainRepository {
@@ -46,23 +46,34 @@ public class DomainRepositoryImpl extends JdbcRepository implements DomainReposi
     }
 
     @Override
-    public void delete(Long identifier) {
-        this.jdbcTemplate.update(
+    public void deleteAll(Collection<Long> identifiers) {
+        if (identifiers.isEmpty()) {
+            return;
+        }
+
+        this.jdbcTemplate.batchUpdate(
             DELETE_BY_ID,
-            new MapSqlParameterSource(COL_ID, identifier)
+            identifiers.stream()
+                .map(identifier -> new MapSqlParameterSource(COL_ID, identifier))
+                .toArray(SqlParameterSource[]::new)
         );
     }
 
     @Override
-    public void save(ParticipantDomainDto domain) {
-        Map<String, Object> parameters = new HashMap<>();
-        parameters.put("created", MODIFICATION_VALUE);
-        parameters.put("modified", MODIFICATION_VALUE);
-        parameters.put(COL_NAME, domain.getName());
-        parameters.put(COL_PARTICIPANT_ID, domain.getParticipantId());
-        this.jdbcTemplate.update(
+    public void saveAll(Collection<ParticipantDomainDto> domains) {
+        if (domains.isEmpty()) {
+            return;
+        }
+
+        this.jdbcTemplate.batchUpdate(
             INSERT,
-            parameters
+            domains.stream()
+                .map(domain -> new MapSqlParameterSource()
+                    .addValue("created", MODIFICATION_VALUE)
+                    .addValue("modified", MODIFICATION_VALUE)
+                    .addValue(COL_NAME, domain.getName())
+                    .addValue(COL_PARTICIPANT_ID, domain.getParticipantId()))
+                .toArray(SqlParameterSource[]::new)
         );
     }
 
@@ -21,6 +21,8 @@ public class CertificateTransparencyConfiguration {
 
     private Duration maxDowntime;
 
+    private int parallelism = 4;
+
     public Duration getExpiration() {
         return expiration;
     }
@@ -36,4 +38,17 @@ public class CertificateTransparencyConfiguration {
     public void setMaxDowntime(Duration maxDowntime) {
         this.maxDowntime = maxDowntime;
     }
+
+    /**
+     * {@code getParallelism} returns the number of participants which are checked concurrently
+     *
+     * @return maximum number of concurrent checks
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
 }
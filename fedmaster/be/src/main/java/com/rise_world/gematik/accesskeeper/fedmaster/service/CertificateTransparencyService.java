@@ -25,16 +25,26 @@ import com.rise_world.gematik.accesskeeper.fedmaster.util.MarkerUtils;
 import com.rise_world.gematik.accesskeeper.fedmaster.util.PemUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import java.sql.Timestamp;
 import java.time.Clock;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static com.rise_world.gematik.accesskeeper.fedmaster.service.StatusCode.NO_CERT;
 import static com.rise_world.gematik.accesskeeper.fedmaster.service.StatusCode.OK;
@@ -55,6 +65,7 @@ public class CertificateTransparencyService {
     private final ParticipantRepository participantRepository;
     private final Clock clock;
     private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
     private final CertificateTransparencyProvider certificateTransparencyProvider;
     private final CtrCheckLog ctrCheckLog;
     private final CTRProvider provider;
@@ -65,6 +76,7 @@ public class CertificateTransparencyService {
                                           ParticipantRepository participantRepository,
                                           Clock clock,
                                           TransactionTemplate transactionTemplate,
+                                          ExecutorService executor,
                                           CertificateTransparencyProvider certificateTransparencyProvider,
                                           CtrCheckLog ctrCheckLog,
                                           CTRProvider provider) {
@@ -74,6 +86,7 @@ public class CertificateTransparencyService {
         this.configuration = configuration;
         this.clock = clock;
         this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
         this.certificateTransparencyProvider = certificateTransparencyProvider;
         this.ctrCheckLog = ctrCheckLog;
         this.provider = provider;
@@ -94,93 +107,167 @@ public class CertificateTransparencyService {
         }
 
         var status = CheckStatus.NOK;
+        var contextMap = MDC.getCopyOfContextMap();
+        var aborted = new AtomicBoolean();
+        var domainsOfParticipants = participantsToMonitor.stream()
+            .map(participant -> domainRepository.findByParticipant(participant.getId()))
+            .toList();
+        // only the records of domains checked for several participants are kept during the run
+        var ctrProvider = CertificateTransparencyProvider.cacheable(certificateTransparencyProvider, sharedDomains(domainsOfParticipants)::contains);
+        var checks = IntStream.range(0, participantsToMonitor.size())
+            .mapToObj(i -> doCheck(participantsToMonitor.get(i), domainsOfParticipants.get(i), ctrProvider, monitoringTime, contextMap, aborted))
+            .toList();
         try {
-            for (var participant : participantsToMonitor) {
-                var participantStatus = doCheck(participant, monitoringTime);
-                status = CheckStatus.accumulate(status, participantStatus);
+            for (var check : checks) {
+                status = CheckStatus.accumulate(status, getResult(check));
             }
 
             logSuccess(ctrCheckLog);
         }
         catch (RequestLimitExceededException e) {
+            abort(aborted, checks);
             ctrCheckLog.log(OK, "certificate transparency check request limit exceeded - aborting check");
         }
+        catch (InterruptedException e) {
+            abort(aborted, checks);
+            Thread.currentThread().interrupt();
+            ctrCheckLog.log(TECHNICAL, "certificate transparency check interrupted - aborting check");
+        }
 
         return status;
     }
 
+    private static Set<String> sharedDomains(List<List<ParticipantDomainDto>> domainsOfParticipants) {
+        var seen = new HashSet<String>();
+        var shared = new HashSet<String>();
+        domainsOfParticipants.stream()
+            .flatMap(List::stream)
+            .map(ParticipantDomainDto::getName)
+            .filter(domain -> !seen.add(domain))
+            .forEach(shared::add);
+        return shared;
+    }
+
+    private static void abort(AtomicBoolean aborted, List<CompletableFuture<CheckStatus>> checks) {
+        // domain checks not started yet are skipped, the executor is shared with other monitoring runs
+        aborted.set(true);
+        checks.forEach(check -> check.cancel(false));
+    }
+
+    private static CheckStatus getResult(Future<CheckStatus> result) throws InterruptedException {
+        try {
+            return result.get();
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
     public CheckStatus checkParticipant(Long id) {
 
         var monitoringTime = clock.instant();
         logMonitoringStart(ctrCheckLog, monitoringTime);
 
         try {
-            var result = participantRepository.findById(id)
-                .filter(participant -> participant.getType() == ParticipantType.OP)
-                .map(participant -> doCheck(participant, monitoringTime));
+            var participant = participantRepository.findById(id)
+                .filter(dto -> dto.getType() == ParticipantType.OP);
 
-            if (result.isEmpty()) {
+            if (participant.isEmpty()) {
                 ctrCheckLog.log(TECHNICAL, "Participant '{}' is not a registered openid provider", id);
+                logSuccess(ctrCheckLog);
+                return CheckStatus.NO_CHECK;
             }
 
+            var domainsOfParticipant = domainRepository.findByParticipant(participant.get().getId());
+            var result = getResult(doCheck(participant.get(), domainsOfParticipant, certificateTransparencyProvider, monitoringTime,
+                MDC.getCopyOfContextMap(), new AtomicBoolean()));
             logSuccess(ctrCheckLog);
-            return result.orElse(CheckStatus.NO_CHECK);
+            return result;
         }
         catch (RequestLimitExceededException e) {
             ctrCheckLog.log(OK, "certificate transparency check request limit exceeded");
             return CheckStatus.NOK;
         }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ctrCheckLog.log(TECHNICAL, "certificate transparency check interrupted");
+            return CheckStatus.NOK;
+        }
     }
 
-    private CheckStatus doCheck(ParticipantDto participant, Instant monitoringTime) {
-        return transactionTemplate.execute(trx -> checkTransactional(participant, monitoringTime));
-    }
-
-    private CheckStatus checkTransactional(ParticipantDto participant, Instant monitoringTime) {
-        var domainsOfParticipant = domainRepository.findByParticipant(participant.getId());
+    private CompletableFuture<CheckStatus> doCheck(ParticipantDto participant, List<ParticipantDomainDto> domainsOfParticipant,
+                                                   CertificateTransparencyProvider ctrProvider, Instant monitoringTime,
+                                                   Map<String, String> contextMap, AtomicBoolean aborted) {
         var certificatePuks = pukRepository.findAllCertificateKeysByParticipant(participant.getId());
 
-        for (ParticipantDomainDto domain : domainsOfParticipant) {
-            try {
-                checkDomain(monitoringTime, participant, domain.getName(), certificatePuks);
-            }
-            catch (RejectedCtrRequestException e) {
-                ctrCheckLog.log(REJECTED, appendParticipant(participant)
-                        .and(append(MarkerUtils.DOMAIN, domain.getName())),
-                    e.getMessage(), e);
-                // CTR check failed - no further domain checks will be performed
+        // the domains of a participant are checked concurrently, once a domain check failed the remaining ones are skipped
+        var failed = new AtomicBoolean();
+        var domainChecks = domainsOfParticipant.stream()
+            .map(domain -> supplyWithContext(contextMap, () -> {
+                if (aborted.get() || failed.get()) {
+                    return CheckStatus.NOK;
+                }
+                var status = tryCheckDomain(ctrProvider, participant, domain.getName(), certificatePuks, monitoringTime);
+                if (status != CheckStatus.OK) {
+                    failed.set(true);
+                }
+                return status;
+            }))
+            .toList();
 
+        // records are fetched outside of a transaction, so slow providers do not hold a database connection
+        return CompletableFuture.allOf(domainChecks.toArray(CompletableFuture[]::new))
+            .thenCompose(ignored -> supplyWithContext(contextMap, () -> {
+                if (domainChecks.stream().allMatch(check -> check.join() == CheckStatus.OK)) {
+                    transactionTemplate.executeWithoutResult(trx -> participantRepository.setMonitoringRun(participant.getId(), Timestamp.from(monitoringTime), provider));
+                    return CheckStatus.OK;
+                }
                 return CheckStatus.NOK;
+            }));
+    }
+
+    private <T> CompletableFuture<T> supplyWithContext(Map<String, String> contextMap, Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                if (contextMap != null) {
+                    MDC.setContextMap(contextMap);
+                }
+                return supplier.get();
             }
-            catch (CtrServiceException e) {
-                ctrCheckLog.log(SERVICE_ERROR, e.getMessage(), e);
-                // CTR check failed - no further domain checks will be performed
-                return CheckStatus.NOK;
-            }
-            catch (CertificateTransparencyProviderException e) {
-                LOG.error("Certificate transparency provider access failed - reason: {}", e.getMessage(), e);
-                // CTR check failed - no further domain checks will be performed
-                return CheckStatus.NOK;
+            finally {
+                MDC.clear();
             }
-        }
-
-        // set
-        participantRepository.setMonitoringRun(participant.getId(), Timestamp.from(monitoringTime), provider);
-        return CheckStatus.OK;
+        }, executor);
     }
 
-    private void checkDomain(Instant now, ParticipantDto participant, String domain, List<CertificatePublicKeyDto> puks) {
-
-        List<CtRecordDto> records = certificateTransparencyProvider.fetch(domain).stream()
-            .filter(e -> isActive(now, e))
-            .toList();
-
-        if (records.isEmpty()) {
-            ctrCheckLog.log(NO_CERT, appendParticipant(participant)
+    private CheckStatus tryCheckDomain(CertificateTransparencyProvider ctrProvider, ParticipantDto participant, String domain, List<CertificatePublicKeyDto> certificatePuks, Instant monitoringTime) {
+        try {
+            checkDomain(ctrProvider, monitoringTime, participant, domain, certificatePuks);
+            return CheckStatus.OK;
+        }
+        catch (RejectedCtrRequestException e) {
+            ctrCheckLog.log(REJECTED, appendParticipant(participant)
                     .and(append(MarkerUtils.DOMAIN, domain)),
-                "no records found for domain {}", domain);
-            return;
+                e.getMessage(), e);
+            // CTR check failed - no further domain checks will be performed
+            return CheckStatus.NOK;
         }
+        catch (CtrServiceException e) {
+            ctrCheckLog.log(SERVICE_ERROR, e.getMessage(), e);
+            // CTR check failed - no further domain checks will be performed
+            return CheckStatus.NOK;
+        }
+        catch (CertificateTransparencyProviderException e) {
+            LOG.error("Certificate transparency provider access failed - reason: {}", e.getMessage(), e);
+            // CTR check failed - no further domain checks will be performed
+            return CheckStatus.NOK;
+        }
+    }
+
+    private void checkDomain(CertificateTransparencyProvider ctrProvider, Instant now, ParticipantDto participant, String domain, List<CertificatePublicKeyDto> puks) {
 
         Set<String> pubKeyHashes = puks.stream()
             .filter(key -> domain.equalsIgnoreCase(key.getDomain()))
@@ -188,8 +275,15 @@ public class CertificateTransparencyService {
             .filter(Objects::nonNull)
             .collect(Collectors.toSet());
 
+        // records are checked as they are received, so they do not have to be collected first
+        int[] activeRecords = {0};
         List<String> unknownKeys = new ArrayList<>();
-        for (CtRecordDto ctr : records) {
+        ctrProvider.fetch(domain, ctr -> {
+            if (!isActive(now, ctr)) {
+                return;
+            }
+
+            activeRecords[0]++;
             ctrCheckLog.log(OK, append(MarkerUtils.PUBKEY_SHA_256, ctr.pubKeyHash())
                     .and(append(MarkerUtils.ISSUER, ctr.issuerName()))
                     .and(append(MarkerUtils.DOMAIN, String.join(", ", ctr.dnsNames())))
@@ -200,6 +294,13 @@ public class CertificateTransparencyService {
             if (!pubKeyHashes.contains(ctr.pubKeyHash())) {
                 unknownKeys.add(ctr.pubKeyHash());
             }
+        });
+
+        if (activeRecords[0] == 0) {
+            ctrCheckLog.log(NO_CERT, appendParticipant(participant)
+                    .and(append(MarkerUtils.DOMAIN, domain)),
+                "no records found for domain {}", domain);
+            return;
         }
 
         if (!unknownKeys.isEmpty()) {
@@ -0,0 +1,103 @@
+/*
+ * Urheberrechtshinweis: Diese Software ist urheberrechtlich geschützt. Das Urheberrecht liegt bei
+ * Research Industrial Systems Engineering (RISE) Forschungs-, Entwicklungs- und Großprojektberatung GmbH,
+ * soweit nicht im Folgenden näher gekennzeichnet.
+ */
+package com.rise_world.gematik.accesskeeper.fedmaster.service;
+
+import com.rise_world.gematik.accesskeeper.fedmaster.FederationMasterConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * {@code EntityStatementResponseCache} stores signed responses of the federation endpoints.
+ * <p>
+ * A response is kept for {@link FederationMasterConfiguration#getResponseCacheTtl() responseCacheTtl}, but never longer
+ * than the {@link FederationMasterConfiguration#getTokenTimeout() tokenTimeout} used for its {@code exp} claim.
+ * Responses of a participant are discarded as soon as the participant was synchronized by this instance.
+ */
+@Service
+class EntityStatementResponseCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EntityStatementResponseCache.class);
+
+    private final Clock clock;
+    private final Duration ttl;
+    private final int maxSize;
+    private final ConcurrentHashMap<CacheKey, CachedResponse> cache = new ConcurrentHashMap<>();
+
+    EntityStatementResponseCache(Clock clock, FederationMasterConfiguration config) {
+        this.clock = clock;
+        this.ttl = config.getTokenTimeout().compareTo(config.getResponseCacheTtl()) < 0 ? config.getTokenTimeout() : config.getResponseCacheTtl();
+        this.maxSize = config.getResponseCacheMaxSize();
+    }
+
+    /**
+     * {@code get} returns the cached response for the given parameters or signs a new one using the {@code loader}
+     *
+     * @param type     type of the response
+     * @param subject  subject of the response
+     * @param audience (nullable) audience of the response
+     * @param loader   creates the signed response, exceptions are propagated and never cached
+     * @return signed response in compact serialization
+     */
+    String get(ResponseType type, String subject, String audience, Supplier<String> loader) {
+        if (ttl.isZero()) {
+            return loader.get();
+        }
+
+        var key = new CacheKey(type, subject, audience);
+        Instant now = clock.instant();
+
+        var cached = cache.get(key);
+        if (cached != null && cached.expiresAt().isAfter(now)) {
+            return cached.token();
+        }
+
+        String token = loader.get();
+        store(key, new CachedResponse(token, now.plus(ttl)), now);
+        return token;
+    }
+
+    /**
+     * {@code invalidate} discards all responses issued for or addressed to the given participant and the idp list
+     *
+     * @param subject entity identifier of the participant
+     */
+    void invalidate(String subject) {
+        cache.keySet().removeIf(key -> key.type() == ResponseType.IDP_LIST
+            || Objects.equals(key.subject(), subject)
+            || Objects.equals(key.audience(), subject));
+        LOG.debug("Invalidated cached federation responses for {}", subject);
+    }
+
+    private void store(CacheKey key, CachedResponse response, Instant now) {
+        if (cache.size() >= maxSize) {
+            cache.values().removeIf(cached -> !cached.expiresAt().isAfter(now));
+            if (cache.size() >= maxSize) {
+                LOG.warn("Federation response cache is full ({} entries) - response will not be cached", maxSize);
+                return;
+            }
+        }
+        cache.put(key, response);
+    }
+
+    enum ResponseType {
+        ENTITY_STATEMENT,
+        IDP_LIST
+    }
+
+    private record CacheKey(ResponseType type, String subject, String audience) {
+    }
+
+    private record CachedResponse(String token, Instant expiresAt) {
+    }
+}
@@ -42,6 +42,8 @@ import static com.rise_world.gematik.accesskeeper.fedmaster.exception.Federation
 import static com.rise_world.gematik.accesskeeper.fedmaster.exception.FederationMasterErrorCodes.FED_UNKNOWN_ISS;
 import static com.rise_world.gematik.accesskeeper.fedmaster.exception.FederationMasterErrorCodes.FED_UNKNOWN_SUB;
 import static com.rise_world.gematik.accesskeeper.fedmaster.service.EntityStatementMetadataProvider.forParticipantType;
+import static com.rise_world.gematik.accesskeeper.fedmaster.service.EntityStatementResponseCache.ResponseType.ENTITY_STATEMENT;
+import static com.rise_world.gematik.accesskeeper.fedmaster.service.EntityStatementResponseCache.ResponseType.IDP_LIST;
 import static com.rise_world.gematik.accesskeeper.fedmaster.token.EntityStatementCreationStrategy.TYPE_IDP_LIST_JWT;
 
 @Service
@@ -57,7 +59,7 @@ public class EntityStatementServiceImpl implements EntityStatementService {
     private final ParticipantRepository participantRepository;
     private final PublicKeyRepository keyRepository;
     private final List<EntityStatementMetadataProvider> metadataProviders;
-
+    private final EntityStatementResponseCache responseCache;
 
     public EntityStatementServiceImpl(FederationMasterConfiguration config,
                                       Clock clock,
@@ -65,7 +67,8 @@ public class EntityStatementServiceImpl implements EntityStatementService {
                                       KeyProvider keyProvider,
                                       ParticipantRepository participantRepository,
                                       PublicKeyRepository keyRepository,
-                                      List<EntityStatementMetadataProvider> metadataProviders) {
+                                      List<EntityStatementMetadataProvider> metadataProviders,
+                                      EntityStatementResponseCache responseCache) {
         this.config = config;
         this.clock = clock;
         this.tokenStrategy = tokenStrategy;
@@ -73,10 +76,16 @@ public class EntityStatementServiceImpl implements EntityStatementService {
         this.participantRepository = participantRepository;
         this.keyRepository = keyRepository;
         this.metadataProviders = metadataProviders;
+        this.responseCache = responseCache;
     }
 
     @Override
     public String fetchMasterEntityStatement() {
+        String issuer = getFederationMasterIssuer();
+        return responseCache.get(ENTITY_STATEMENT, issuer, null, this::createMasterEntityStatement);
+    }
+
+    private String createMasterEntityStatement() {
         Instant now = clock.instant();
         long epochSecond = now.getEpochSecond();
         String issuer = getFederationMasterIssuer();
@@ -118,15 +127,21 @@ public class EntityStatementServiceImpl implements EntityStatementService {
         }
         if (aud != null) {
             validateUri(aud, FED_INVALID_AUD);
-            if (participantRepository.findByIdentifier(aud).isEmpty()) {
-                LOG.error("audience '{}' not a registered entity", aud);
-                throw new AccessKeeperException(FED_INVALID_AUD);
-            }
         }
         // guards end
 
+        // the audience check is part of the cached computation, rejected requests are never cached
+        return responseCache.get(ENTITY_STATEMENT, searchSub, aud, () -> createEntityStatement(iss, searchSub, aud));
+    }
+
+    private String createEntityStatement(String iss, String searchSub, String aud) {
+        if (aud != null && participantRepository.findByIdentifier(aud).isEmpty()) {
+            LOG.error("audience '{}' not a registered entity", aud);
+            throw new AccessKeeperException(FED_INVALID_AUD);
+        }
+
         if (Objects.equals(iss, searchSub)) {
-            return fetchMasterEntityStatement();
+            return createMasterEntityStatement();
         }
 
         ParticipantDto entity = this.participantRepository.findByIdentifier(searchSub)
@@ -161,6 +176,10 @@ public class EntityStatementServiceImpl implements EntityStatementService {
 
     @Override
     public String getIdpList() {
+        return responseCache.get(IDP_LIST, getFederationMasterIssuer(), null, this::createIdpList);
+    }
+
+    private String createIdpList() {
         Instant now = clock.instant();
         long epochSecond = now.getEpochSecond();
 
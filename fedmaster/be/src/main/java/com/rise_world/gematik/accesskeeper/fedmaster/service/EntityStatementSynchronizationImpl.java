@@ -6,17 +6,22 @@
 package com.rise_world.gematik.accesskeeper.fedmaster.service;
 
 import com.rise_world.gematik.accesskeeper.common.service.SynchronizationConfiguration;
+import com.rise_world.gematik.accesskeeper.common.util.TimeLimitedExecutor;
 import com.rise_world.gematik.accesskeeper.fedmaster.dto.ParticipantDto;
 import com.rise_world.gematik.accesskeeper.fedmaster.repository.ParticipantRepository;
 import com.rise_world.gematik.accesskeeper.fedmaster.util.SynchronizationLog;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 
+import jakarta.annotation.PreDestroy;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
 
 import static com.rise_world.gematik.accesskeeper.fedmaster.service.Severity.ERROR;
 import static com.rise_world.gematik.accesskeeper.fedmaster.service.StatusCode.OK;
@@ -31,18 +36,32 @@ public class EntityStatementSynchronizationImpl implements EntityStatementSynchr
     private final ParticipantRepository participantRepository;
     private final SynchronizationConfiguration configuration;
     private final SynchronizationService service;
+    private final EntityStatementResponseCache responseCache;
     private final Clock clock;
     private final boolean lockRelyingParty;
+    private final Duration participantTimeout;
+    private final Duration deadline;
+    private final TimeLimitedExecutor executor;
 
     public EntityStatementSynchronizationImpl(Clock clock,
                                               SynchronizationConfiguration configuration,
                                               ParticipantRepository participantRepository,
-                                              SynchronizationService service) {
+                                              SynchronizationService service,
+                                              EntityStatementResponseCache responseCache) {
         this.configuration = configuration;
         this.participantRepository = participantRepository;
         this.service = service;
+        this.responseCache = responseCache;
         this.clock = clock;
         this.lockRelyingParty = configuration.lockRelyingParty();
+        this.participantTimeout = configuration.getParticipantTimeout();
+        this.deadline = configuration.getDeadline();
+        this.executor = new TimeLimitedExecutor("participant-sync-", configuration.getParallelism());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
     }
 
     @Override
@@ -53,10 +72,50 @@ public class EntityStatementSynchronizationImpl implements EntityStatementSynchr
         List<ParticipantDto> toBeSynced = loadParticipants(synchronizationTime);
         SynchronizationLog.log(OK, "{} participant(s) found for synchronization", toBeSynced.size());
 
-        toBeSynced.forEach(participant -> doSynchronize(participant, synchronizationTime));
+        if (!toBeSynced.isEmpty()) {
+            synchronizeConcurrently(toBeSynced, synchronizationTime);
+        }
         SynchronizationLog.log(OK, "finished synchronization successfully");
     }
 
+    private void synchronizeConcurrently(List<ParticipantDto> toBeSynced, Instant synchronizationTime) {
+        List<Callable<Void>> tasks = toBeSynced.stream()
+            .<Callable<Void>>map(participant -> () -> {
+                doSynchronizeWithTimeout(participant, synchronizationTime);
+                return null;
+            })
+            .toList();
+
+        List<Future<Void>> results;
+        try {
+            // each participant is synchronized in its own transaction; participants not started at the deadline are skipped,
+            // running synchronizations are not interrupted and complete in the background
+            results = executor.invokeAll(tasks, deadline);
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            SynchronizationLog.log(TECHNICAL, "synchronization job interrupted - remaining participants will be synchronized in the next run");
+            return;
+        }
+
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i).isCancelled()) {
+                ParticipantDto participant = toBeSynced.get(i);
+                SynchronizationLog.log(TECHNICAL, appendParticipant(participant),
+                    "synchronization for participant {} not started - deadline of {} for synchronization job exceeded", participant.getSub(), deadline);
+            }
+        }
+    }
+
+    private void doSynchronizeWithTimeout(ParticipantDto participant, Instant synchronizationTime) {
+        // the watchdog only interrupts the fetch of the entity statement, never the database transaction
+        try (TimeLimitedExecutor.Timeout ignored = executor.startTimeout(participantTimeout, () ->
+            SynchronizationLog.log(TECHNICAL, appendParticipant(participant),
+                "synchronization for participant {} exceeded timeout of {} - aborting", participant.getSub(), participantTimeout))) {
+            doSynchronize(participant, synchronizationTime);
+        }
+    }
+
     private List<ParticipantDto> loadParticipants(Instant synchronizationTime) {
         Date syncedBefore = Date.from(synchronizationTime.minus(configuration.getExpiration()));
 
@@ -108,6 +167,8 @@ public class EntityStatementSynchronizationImpl implements EntityStatementSynchr
         }
         finally {
             this.service.logSynchronizationRun(participant, synchronizationTime);
+            // the synchronization may have changed metadata or the active flag of the participant
+            this.responseCache.invalidate(participant.getSub());
         }
     }
 
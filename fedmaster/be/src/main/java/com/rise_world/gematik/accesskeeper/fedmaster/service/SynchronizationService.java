@@ -8,6 +8,8 @@ package com.rise_world.gematik.accesskeeper.fedmaster.service;
 import com.rise_world.gematik.accesskeeper.common.service.FederationEndpointProvider;
 import com.rise_world.gematik.accesskeeper.common.service.SynchronizationConfiguration;
 import com.rise_world.gematik.accesskeeper.common.token.extraction.parser.IdpJwsJwtCompactConsumer;
+import com.rise_world.gematik.accesskeeper.common.util.DigestUtils;
+import com.rise_world.gematik.accesskeeper.common.util.TimeLimitedExecutor;
 import com.rise_world.gematik.accesskeeper.fedmaster.FederationMasterConfiguration;
 import com.rise_world.gematik.accesskeeper.fedmaster.dto.ParticipantDomainDto;
 import com.rise_world.gematik.accesskeeper.fedmaster.dto.ParticipantDto;
@@ -30,9 +32,12 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
 import java.time.Clock;
 import java.time.Instant;
@@ -44,6 +49,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.rise_world.gematik.accesskeeper.common.token.ClaimUtils.getLongPropertyWithoutException;
 import static com.rise_world.gematik.accesskeeper.fedmaster.dto.ParticipantType.OP;
@@ -85,6 +91,9 @@ public class SynchronizationService {
     // so the jit can optimize and remove dead code
     private final boolean lockRelyingParty;
 
+    // digest of the last entity statement successfully processed per openid provider, used to skip unchanged statements
+    private final Map<Long, ProcessedStatement> processedStatements = new ConcurrentHashMap<>();
+
     public SynchronizationService(Clock clock,
                                   SynchronizationConfiguration configuration,
                                   ParticipantRepository participantRepository,
@@ -110,9 +119,17 @@ public class SynchronizationService {
 
         validateSub(participant);
 
-        var entityStatement = fetchEntityStatement(participant);
+        var fetched = fetchEntityStatement(participant);
+        var entityStatement = fetched.claims();
         validateEntityStatement(participant, entityStatement);
 
+        if (fetched.unchanged()) {
+            // domains, organization name and logo uri were already stored for this statement, only the synchronization time is updated
+            participantRepository.synchronizeParticipant(participant, Timestamp.from(synchronizationTime));
+            SynchronizationLog.log(OK, "participant {} synchronized - entity statement unchanged", participant.getSub());
+            return;
+        }
+
         switch (participant.getType()) {
             case OP -> synchronizeOpenIdProvider(participant, entityStatement);
             case RP -> synchronizeRelyingParty(participant, entityStatement);
@@ -120,9 +137,27 @@ public class SynchronizationService {
         }
 
         participantRepository.synchronizeParticipant(participant, Timestamp.from(synchronizationTime));
+        if (participant.getType() == OP) {
+            rememberProcessedStatement(participant.getId(), new ProcessedStatement(fetched.digest(), fetched.pem()));
+        }
         SynchronizationLog.log(OK, "participant {} synchronized", participant.getSub());
     }
 
+    private void rememberProcessedStatement(Long participantId, ProcessedStatement statement) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            processedStatements.put(participantId, statement);
+            return;
+        }
+
+        // only skip the statement in later runs if the changes derived from it have been committed
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                processedStatements.put(participantId, statement);
+            }
+        });
+    }
+
     private void synchronizeOpenIdProvider(ParticipantDto participant, JwtClaims entityStatement) throws SynchronizationException {
         // updating domains for CTR check to detect potential certificate issues is more important
         // than orgName and logoUri updates
@@ -257,22 +292,26 @@ public class SynchronizationService {
     }
 
     private void addNewDomains(ParticipantDto participant, Set<String> expectedDomainNames, List<ParticipantDomainDto> domains) {
-        for (String dns : expectedDomainNames) {
-            if (domains.stream().noneMatch(participantDomain -> StringUtils.equalsIgnoreCase(dns, participantDomain.getName()))) {
+        List<ParticipantDomainDto> newDomains = expectedDomainNames.stream()
+            .filter(dns -> domains.stream().noneMatch(participantDomain -> StringUtils.equalsIgnoreCase(dns, participantDomain.getName())))
+            .map(dns -> {
                 ParticipantDomainDto domain = new ParticipantDomainDto();
                 domain.setParticipantId(participant.getId());
                 domain.setName(dns);
+                return domain;
+            })
+            .toList();
 
-                domainRepository.save(domain);
-            }
-        }
+        domainRepository.saveAll(newDomains);
     }
 
     private void removeUnusedDomains(Set<String> expectedDomainNames, List<ParticipantDomainDto> domains) {
-        domains.stream()
-            .filter(participantDomain -> !expectedDomainNames.contains(participantDomain.getName()))
+        List<Long> unusedDomains = domains.stream()
+            .filter(participantDomain -> expectedDomainNames.stream().noneMatch(dns -> StringUtils.equalsIgnoreCase(dns, participantDomain.getName())))
             .map(ParticipantDomainDto::getId)
-            .forEach(domainRepository::delete);
+            .toList();
+
+        domainRepository.deleteAll(unusedDomains);
     }
 
     private Set<String> getDomains(JwtClaims entityStatement) throws SynchronizationException {
@@ -304,10 +343,12 @@ public class SynchronizationService {
         }
     }
 
-    private JwtClaims fetchEntityStatement(ParticipantDto participant) throws SynchronizationException {
+    private FetchedStatement fetchEntityStatement(ParticipantDto participant) throws SynchronizationException {
         String token;
         try {
-            token = endpointProvider.create(participant.getSub(), FederationMasterConfiguration.USER_AGENT).getFederationEntity();
+            // only the remote call may be interrupted if the synchronization of the participant exceeds its timeout
+            token = TimeLimitedExecutor.interruptibly(() ->
+                endpointProvider.create(participant.getSub(), FederationMasterConfiguration.USER_AGENT).getFederationEntity());
         }
         catch (WebApplicationException ex) {
             Instant notReachable = getNotReachableSince(participant);
@@ -329,12 +370,22 @@ public class SynchronizationService {
             throw new SynchronizationException(TOKEN_INVALID, "token does not conform to JWS compact serialization format", e);
         }
 
-        var validationError = validateSignature(participant, consumer);
-        if (validationError.isPresent()) {
-            handleKeyValidationError(participant, validationError.get());
+        var digest = DigestUtils.sha256Hex(token.trim(), StandardCharsets.UTF_8);
+        var pem = keyRepository.findKeyByParticipantAndKeyId(participant.getId(), consumer.getJwsHeaders().getKeyId())
+            .map(ParticipantKeyDto::getPem)
+            .orElse(null);
+
+        // the signature of an identical statement was already verified with the same key
+        var unchanged = new ProcessedStatement(digest, pem).equals(processedStatements.get(participant.getId()));
+        if (!unchanged) {
+            var validationError = validateSignature(consumer, pem);
+            if (validationError.isPresent()) {
+                processedStatements.remove(participant.getId());
+                handleKeyValidationError(participant, validationError.get());
+            }
         }
 
-        return consumer.getJwtClaims();
+        return new FetchedStatement(consumer.getJwtClaims(), digest, pem, unchanged);
     }
 
     private void handleKeyValidationError(ParticipantDto participant, KeyValidationError validation) throws SynchronizationException {
@@ -349,10 +400,7 @@ public class SynchronizationService {
         throw new SynchronizationException(validation.status(), related, validation.message());
     }
 
-    private Optional<KeyValidationError> validateSignature(ParticipantDto participant, JwsJwtCompactConsumer consumer) {
-        var pem = keyRepository.findKeyByParticipantAndKeyId(participant.getId(), consumer.getJwsHeaders().getKeyId())
-            .map(ParticipantKeyDto::getPem)
-            .orElse(null);
+    private Optional<KeyValidationError> validateSignature(JwsJwtCompactConsumer consumer, String pem) {
         if (isNull(pem)) {
             return Optional.of(new KeyValidationError(KID_UNKNOWN,
                 singletonMap("kid_jwt_es", consumer.getJwsHeaders().getKeyId()),
@@ -388,4 +436,10 @@ public class SynchronizationService {
 
     private record KeyValidationError(StatusCode status, Map<String, String> related, String message) {
     }
+
+    private record FetchedStatement(JwtClaims claims, String digest, String pem, boolean unchanged) {
+    }
+
+    private record ProcessedStatement(String digest, String pem) {
+    }
 }
@@ -23,6 +23,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 import java.security.KeyFactory;
 import java.security.NoSuchAlgorithmException;
 import java.security.NoSuchProviderException;
@@ -31,6 +32,7 @@ import java.security.spec.X509EncodedKeySpec;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class PemUtils {
 
@@ -38,6 +40,10 @@ public class PemUtils {
 
     private static final Map<ASN1ObjectIdentifier, String> ALGORITHMS = new HashMap<>();
 
+    // parsed public keys by sha-256 of their PEM representation, public keys are immutable and can be shared
+    private static final int MAX_CACHED_KEYS = 10_000;
+    private static final Map<String, PublicKey> PUBLIC_KEYS = new ConcurrentHashMap<>();
+
     // org.bouncycastle.openssl.jcajce.JcaPEMKeyConverter maps id_ecPublicKey to 'ECDSA'. this doesn't work with cxf JwsUtils because they expect 'EC'
     static {
         ALGORITHMS.put(X9ObjectIdentifiers.id_ecPublicKey, "EC");
@@ -49,7 +55,31 @@ public class PemUtils {
         // avoid instantiation
     }
 
+    /**
+     * Reads a PEM encoded public key. Successfully parsed keys are cached by the hash of their PEM representation,
+     * so repeated calls for the same key do not parse the PEM again.
+     *
+     * @param pem PEM encoded public key
+     * @return the public key or {@link Optional#empty()} if the PEM could not be parsed
+     */
     public static Optional<PublicKey> readPublicKey(String pem) {
+        String hash = DigestUtils.sha256Hex(pem, StandardCharsets.UTF_8);
+        PublicKey cached = PUBLIC_KEYS.get(hash);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<PublicKey> publicKey = parsePublicKey(pem);
+        publicKey.ifPresent(key -> {
+            if (PUBLIC_KEYS.size() >= MAX_CACHED_KEYS) {
+                PUBLIC_KEYS.clear();
+            }
+            PUBLIC_KEYS.put(hash, key);
+        });
+        return publicKey;
+    }
+
+    private static Optional<PublicKey> parsePublicKey(String pem) {
         PEMParser parser = new PEMParser(new StringReader(pem));
         try {
             Object pemObject = parser.readObject();
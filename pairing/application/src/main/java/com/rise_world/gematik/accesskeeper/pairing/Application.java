@@ -11,10 +11,12 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.builder.SpringApplicationBuilder;
 import org.springframework.boot.web.servlet.support.SpringBootServletInitializer;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Spring Boot Application runner.
  */
+@EnableScheduling
 @SpringBootApplication(scanBasePackages = {"com.rise_world.gematik.accesskeeper"})
 public class Application extends SpringBootServletInitializer {
 
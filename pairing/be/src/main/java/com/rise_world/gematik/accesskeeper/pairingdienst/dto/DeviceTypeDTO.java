@@ -9,6 +9,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.rise_world.gematik.accesskeeper.pairingdienst.service.validation.Validation;
 import com.rise_world.gematik.accesskeeper.pairingdienst.service.validation.Validations;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
 
 /**
  * Describes a device type.
@@ -99,4 +101,18 @@ public class DeviceTypeDTO {
         this.securityPatchlevel = securityPatchlevel;
     }
 
+    @Override
+    public String toString() {
+        // explicit fields instead of reflection, the device type is logged on every pairing request
+        return new ToStringBuilder(this, ToStringStyle.NO_CLASS_NAME_STYLE)
+            .append("deviceTypeDataVersion", deviceTypeDataVersion)
+            .append("manufacturer", manufacturer)
+            .append("product", product)
+            .append("model", model)
+            .append("os", os)
+            .append("osVersion", osVersion)
+            .append("securityPatchlevel", securityPatchlevel)
+            .toString();
+    }
+
 }
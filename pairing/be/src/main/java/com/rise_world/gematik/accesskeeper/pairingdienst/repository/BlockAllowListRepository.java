@@ -21,4 +21,11 @@ public interface BlockAllowListRepository {
      *         device has status "block"; otherwise {@code DeviceStatus#UNKNOWN}
      */
     DeviceStatus fetchDeviceStatus(DeviceTypeDTO deviceType);
+
+    /**
+     * Reloads the block/allow list from the database.
+     *
+     * @return number of entries in the reloaded block/allow list
+     */
+    int reload();
 }
@@ -8,17 +8,29 @@ package com.rise_world.gematik.accesskeeper.pairingdienst.repository;
 import com.rise_world.gematik.accesskeeper.pairingdienst.dto.DeviceStatus;
 import com.rise_world.gematik.accesskeeper.pairingdienst.dto.DeviceTypeDTO;
 import com.rise_world.gematik.accesskeeper.pairingdienst.exception.PairingDienstException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.commons.lang3.EnumUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Repository;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.List;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 import static com.rise_world.gematik.accesskeeper.common.exception.ErrorCodes.SERVER_ERROR;
 import static com.rise_world.gematik.accesskeeper.pairingdienst.exception.ErrorDetails.DATABASE_INCONSISTENT;
@@ -28,42 +40,118 @@ public class BlockAllowListRepositoryImpl implements BlockAllowListRepository {
 
     protected static final String TABLE_NAME = "blockallowlist";
     protected static final String COL_DEVICE_STATE = "deviceState";
-    protected static final String QUERY_STATE = "SELECT " + COL_DEVICE_STATE + " FROM " + TABLE_NAME +
-        " WHERE manufacturer=:manufacturer AND" +
-        " product=:product AND" +
-        " model=:model AND" +
-        " os=:os AND" +
-        " osVersion=:osVersion";
+    protected static final String QUERY_ALL = "SELECT manufacturer, product, model, os, osVersion, " + COL_DEVICE_STATE + " FROM " + TABLE_NAME;
 
     private static final Logger LOG = LoggerFactory.getLogger(BlockAllowListRepositoryImpl.class);
 
     private NamedParameterJdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final Duration maxAge;
 
-    public BlockAllowListRepositoryImpl(NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+    /**
+     * the block/allow list is small and rarely changed, so lookups are answered from an in-memory snapshot
+     */
+    private volatile Snapshot snapshot;
+
+    public BlockAllowListRepositoryImpl(NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                                        Clock clock,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${blockAllowList.maxAge:PT10M}") String maxAge) {
         this.jdbcTemplate = namedParameterJdbcTemplate;
+        this.clock = clock;
+        this.maxAge = Duration.parse(maxAge);
+
+        Gauge.builder("blockallowlist.snapshot.age", this, BlockAllowListRepositoryImpl::getAgeInSeconds)
+            .baseUnit("seconds")
+            .description("The age of the in-memory snapshot of the block/allow list")
+            .register(meterRegistry);
     }
 
     @Override
     public DeviceStatus fetchDeviceStatus(DeviceTypeDTO deviceType) {
-        List<DeviceStatus> states = this.jdbcTemplate.query(QUERY_STATE,
-            new MapSqlParameterSource()
-                .addValue("manufacturer", deviceType.getManufacturer())
-                .addValue("product", deviceType.getProduct())
-                .addValue("model", deviceType.getModel())
-                .addValue("os", deviceType.getOs())
-                .addValue("osVersion", deviceType.getOsVersion()),
-            BlockAllowListRepositoryImpl::extractDeviceState);
-
-        if (states.size() > 1) {
+        DeviceKey key = DeviceKey.of(deviceType.getManufacturer(),
+            deviceType.getProduct(),
+            deviceType.getModel(),
+            deviceType.getOs(),
+            deviceType.getOsVersion());
+
+        if (key.hasNullAttribute()) {
+            // a comparison with NULL never matches in SQL
+            return DeviceStatus.UNKNOWN;
+        }
+
+        Snapshot current = currentSnapshot();
+        if (current.inconsistent().contains(key)) {
             LOG.error("lookup returned more than one record");
             throw new PairingDienstException(SERVER_ERROR, DATABASE_INCONSISTENT);
         }
 
-        if (states.isEmpty()) {
-            return DeviceStatus.UNKNOWN;
+        return current.states().getOrDefault(key, DeviceStatus.UNKNOWN);
+    }
+
+    @Override
+    public synchronized int reload() {
+        Map<DeviceKey, DeviceStatus> states = new HashMap<>();
+        Set<DeviceKey> inconsistent = new HashSet<>();
+        Instant loadedAt = clock.instant();
+
+        this.jdbcTemplate.query(QUERY_ALL, new MapSqlParameterSource(), (RowCallbackHandler) rs -> {
+            DeviceKey key = DeviceKey.of(rs.getString("manufacturer"),
+                rs.getString("product"),
+                rs.getString("model"),
+                rs.getString("os"),
+                rs.getString("osVersion"));
+
+            if (!key.hasNullAttribute() && states.putIfAbsent(key, extractDeviceState(rs, rs.getRow())) != null) {
+                inconsistent.add(key);
+            }
+        });
+
+        snapshot = new Snapshot(Map.copyOf(states), Set.copyOf(inconsistent), loadedAt);
+        LOG.info("Loaded {} entries of block/allow list", states.size());
+        return states.size();
+    }
+
+    /**
+     * Timer method for reloading the block/allow list.
+     * <p>
+     * If reloading fails the previous snapshot is kept until it exceeds the configured max age.
+     */
+    @Scheduled(fixedDelayString = "${blockAllowList.refresh.delay:60000}")
+    public void refreshSnapshot() {
+        try {
+            reload();
+        }
+        catch (RuntimeException e) {
+            LOG.error("Failed to reload block/allow list", e);
         }
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null || isOutdated(current)) {
+            // the snapshot is refreshed by the timer, loading on request only happens on startup or if the refresh failed repeatedly
+            synchronized (this) {
+                current = snapshot;
+                if (current == null || isOutdated(current)) {
+                    reload();
+                    current = snapshot;
+                }
+            }
+        }
+        return current;
+    }
+
+    private boolean isOutdated(Snapshot current) {
+        return !current.loadedAt().plus(maxAge).isAfter(clock.instant());
+    }
 
-        return states.get(0);
+    private double getAgeInSeconds() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return Double.NaN;
+        }
+        return Duration.between(current.loadedAt(), clock.instant()).toSeconds();
     }
 
     /**
@@ -79,4 +167,26 @@ public class BlockAllowListRepositoryImpl implements BlockAllowListRepository {
         String state = StringUtils.upperCase(rs.getString(COL_DEVICE_STATE));
         return EnumUtils.getEnum(DeviceStatus.class, state, DeviceStatus.UNKNOWN);
     }
+
+    /**
+     * Key of a block/allow list entry, compared like the case-insensitive PAD SPACE collation of the table columns:
+     * trailing spaces are ignored and the attributes are compared case-insensitively.
+     */
+    private record DeviceKey(String manufacturer, String product, String model, String os, String osVersion) {
+
+        static DeviceKey of(String manufacturer, String product, String model, String os, String osVersion) {
+            return new DeviceKey(normalize(manufacturer), normalize(product), normalize(model), normalize(os), normalize(osVersion));
+        }
+
+        private static String normalize(String value) {
+            return value == null ? null : StringUtils.stripEnd(value, " ").toLowerCase(Locale.ROOT);
+        }
+
+        boolean hasNullAttribute() {
+            return manufacturer == null || product == null || model == null || os == null || osVersion == null;
+        }
+    }
+
+    private record Snapshot(Map<DeviceKey, DeviceStatus> states, Set<DeviceKey> inconsistent, Instant loadedAt) {
+    }
 }
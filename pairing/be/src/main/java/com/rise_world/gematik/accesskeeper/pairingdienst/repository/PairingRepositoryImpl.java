@@ -46,6 +46,7 @@ public class PairingRepositoryImpl implements PairingRepository {
 
     private static final String QUERY_PAIRING = "SELECT * FROM " + TABLE_NAME + " WHERE idNummer=:idNummer AND keyIdentifier=:keyIdentifier";
     private static final String QUERY_PAIRINGS = "SELECT * FROM " + TABLE_NAME + " WHERE idNummer=:idNummer ORDER BY deviceName, id";
+    private static final String QUERY_PAIRING_ID = "SELECT id FROM " + TABLE_NAME + " WHERE idNummer=:idNummer AND keyIdentifier=:keyIdentifier FOR UPDATE";
     private static final String DELETE_PAIRING = "DELETE FROM " + TABLE_NAME + " WHERE id=:id";
 
     private final SimpleJdbcInsert simpleJdbcInsert;
@@ -118,14 +119,27 @@ public class PairingRepositoryImpl implements PairingRepository {
     @Override
     @Transactional
     public boolean deletePairing(String idNummer, String keyIdentifier) {
-        Optional<PairingEntryEntity> pairing = fetchPairing(idNummer, keyIdentifier);
+        String keyIdentifierHex = convertBase64ToHex(keyIdentifier);
 
-        if (!pairing.isPresent()) {
+        // @AFO: A_21448 Löschung des Pairing Datensatzes in der Datenbank
+        // only the id is selected and the row is locked until the delete is committed; the delete by id keeps the
+        // delete log free of the idNummer and works on every database, unlike DELETE ... RETURNING
+        List<Long> pairingIds = jdbcTemplate.queryForList(QUERY_PAIRING_ID,
+            new MapSqlParameterSource()
+                .addValue(COL_ID_NUMMER, idNummer)
+                .addValue(COL_KEY_IDENTIFIER, keyIdentifierHex),
+            Long.class);
+
+        if (pairingIds.size() > 1) {
+            LOG.error("lookup returned more than one record");
+            throw new PairingDienstException(SERVER_ERROR, DATABASE_INCONSISTENT);
+        }
+
+        if (pairingIds.isEmpty()) {
             return false;
         }
 
-        // @AFO: A_21448 Löschung des Pairing Datensatzes in der Datenbank
-        Long pairingId = pairing.get().getId();
+        Long pairingId = pairingIds.get(0);
         int affectedRows = jdbcTemplate.update(DELETE_PAIRING,
             new MapSqlParameterSource().addValue(COL_ID, pairingId));
 
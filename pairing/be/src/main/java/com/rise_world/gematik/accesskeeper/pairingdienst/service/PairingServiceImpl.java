@@ -33,8 +33,6 @@ import com.rise_world.gematik.accesskeeper.pairingdienst.repository.PairingRepos
 import com.rise_world.gematik.accesskeeper.pairingdienst.service.exception.InvalidSignedPairingDataException;
 import com.rise_world.gematik.accesskeeper.pairingdienst.service.validation.Validations;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.builder.ToStringBuilder;
-import org.apache.commons.lang3.builder.ToStringStyle;
 import org.apache.cxf.rs.security.jose.common.JoseConstants;
 import org.apache.cxf.rs.security.jose.common.JoseType;
 import org.apache.cxf.rs.security.jose.jwa.SignatureAlgorithm;
@@ -146,7 +144,7 @@ public class PairingServiceImpl implements PairingService {
                     .and(append("device_request_type", "PAIRING"))
                     .and(append("device_status", deviceStatus)),
                     "register pairing using {} during {} resulting in {}",
-                    ToStringBuilder.reflectionToString(deviceType, ToStringStyle.NO_CLASS_NAME_STYLE), "PAIRING", deviceStatus);
+                    deviceType, "PAIRING", deviceStatus);
 
             // @AFO: A_21423 Prüfung ob Gerätetyp auf der Block-Liste eingetragen ist und Rückgabe mit entsprechender
             // Fehlermeldung REG.2
@@ -237,7 +235,7 @@ public class PairingServiceImpl implements PairingService {
                     .and(append("device_request_type", "AUTH"))
                     .and(append("device_status", deviceStatus)),
                     "alternative authorization using {} during {} resulting in {}",
-                    ToStringBuilder.reflectionToString(deviceType, ToStringStyle.NO_CLASS_NAME_STYLE), "AUTH",
+                    deviceType, "AUTH",
                     deviceStatus);
 
             if (deviceStatus == DeviceStatus.BLOCK) {
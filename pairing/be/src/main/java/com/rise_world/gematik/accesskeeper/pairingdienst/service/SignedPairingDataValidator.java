@@ -12,6 +12,7 @@ import com.rise_world.gematik.accesskeeper.common.exception.CertReaderException;
 import com.rise_world.gematik.accesskeeper.common.service.CertificateReaderService;
 import com.rise_world.gematik.accesskeeper.common.token.ClaimUtils;
 import com.rise_world.gematik.accesskeeper.common.token.extraction.parser.IdpJwsJwtCompactConsumer;
+import com.rise_world.gematik.accesskeeper.common.util.DigestUtils;
 import com.rise_world.gematik.accesskeeper.pairingdienst.Constants;
 import com.rise_world.gematik.accesskeeper.pairingdienst.dto.DeviceTypeDTO;
 import com.rise_world.gematik.accesskeeper.pairingdienst.dto.SignedPairingDataDTO;
@@ -35,6 +36,7 @@ import org.bouncycastle.jcajce.provider.asymmetric.util.EC5Util;
 import org.bouncycastle.jce.ECNamedCurveTable;
 import org.bouncycastle.jce.ECPointUtil;
 import org.bouncycastle.jce.spec.ECNamedCurveParameterSpec;
+import org.bouncycastle.util.encoders.Hex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -42,6 +44,7 @@ import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.security.KeyFactory;
 import java.security.NoSuchAlgorithmException;
 import java.security.NoSuchProviderException;
@@ -54,7 +57,9 @@ import java.security.spec.ECPublicKeySpec;
 import java.security.spec.EllipticCurve;
 import java.security.spec.InvalidKeySpecException;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.rise_world.gematik.accesskeeper.pairingdienst.token.PairingClaims.PAIRING_DATA_CLAIM_SE_SUBJECT_PUBLIC_KEY_INFO;
 import static com.rise_world.gematik.accesskeeper.pairingdienst.util.Utils.BASE64URL_DECODER;
@@ -74,9 +79,14 @@ public class SignedPairingDataValidator {
         BC_EC_PARAM_SPEC_SEC_P256_R1.getCurve(), BC_EC_PARAM_SPEC_SEC_P256_R1.getSeed());
     private static final ECParameterSpec EC_PARAM_SPEC_SEC_P256_R1 = EC5Util.convertSpec(EC_CURVE_SEC_P256_R1, BC_EC_PARAM_SPEC_SEC_P256_R1);
 
+    private static final int MAX_VERIFIED_PAIRING_DATA = 10_000;
+
     private CertificateReaderService certificateReaderService;
     private ObjectMapper objectMapper;
 
+    // stored signed pairing data is immutable, so PUK_SE_AUT is kept per verified pairing data and auth certificate key
+    private final Map<String, ECPublicKey> verifiedPairingData = new ConcurrentHashMap<>();
+
     @Autowired
     public SignedPairingDataValidator(CertificateReaderService certificateReaderService, ObjectMapper objectMapper) {
         this.certificateReaderService = certificateReaderService;
@@ -119,8 +129,24 @@ public class SignedPairingDataValidator {
      * @return PUK_SE_AUT extracted from signed pairing data
      */
     public ECPublicKey validateForAuthentication(String signedPairingDataAsString, AuthCertificate authCertificate) {
+        PublicKey authCertificatePublicKey = authCertificate.asX509Certificate().getPublicKey();
+        String cacheKey = DigestUtils.sha256Hex(signedPairingDataAsString, StandardCharsets.UTF_8) + ":"
+            + Hex.toHexString(DigestUtils.sha256(authCertificatePublicKey.getEncoded()));
+
+        ECPublicKey pukSeAut = verifiedPairingData.get(cacheKey);
+        if (pukSeAut == null) {
+            pukSeAut = extractPukSeAut(signedPairingDataAsString, authCertificatePublicKey);
+            if (verifiedPairingData.size() >= MAX_VERIFIED_PAIRING_DATA) {
+                verifiedPairingData.clear();
+            }
+            verifiedPairingData.put(cacheKey, pukSeAut);
+        }
+        return pukSeAut;
+    }
+
+    private ECPublicKey extractPukSeAut(String signedPairingDataAsString, PublicKey authCertificatePublicKey) {
         IdpJwsJwtCompactConsumer signedPairingData = new IdpJwsJwtCompactConsumer(signedPairingDataAsString);
-        validateSignature(signedPairingData, authCertificate.asX509Certificate().getPublicKey());
+        validateSignature(signedPairingData, authCertificatePublicKey);
 
         JwtClaims pairingDataClaims = signedPairingData.getJwtClaims();
 
@@ -0,0 +1,32 @@
+/*
+ * Urheberrechtshinweis: Diese Software ist urheberrechtlich geschützt. Das Urheberrecht liegt bei
+ * Research Industrial Systems Engineering (RISE) Forschungs-, Entwicklungs- und Großprojektberatung GmbH,
+ * soweit nicht im Folgenden näher gekennzeichnet.
+ */
+package com.rise_world.gematik.accesskeeper.pairing.actuator;
+
+import com.rise_world.gematik.accesskeeper.pairingdienst.repository.BlockAllowListRepository;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "blockallowlist")
+public class BlockAllowListActuatorEndpoint {
+
+    private final BlockAllowListRepository blockAllowListRepository;
+
+    public BlockAllowListActuatorEndpoint(BlockAllowListRepository blockAllowListRepository) {
+        this.blockAllowListRepository = blockAllowListRepository;
+    }
+
+    /**
+     * Reloads the in-memory snapshot of the block/allow list, e.g. after the list was changed in the database
+     *
+     * @return number of entries in the reloaded block/allow list
+     */
+    @WriteOperation
+    public int reload() {
+        return blockAllowListRepository.reload();
+    }
+}
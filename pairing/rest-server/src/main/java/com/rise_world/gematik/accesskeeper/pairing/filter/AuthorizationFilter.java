@@ -9,14 +9,19 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rise_world.gematik.accesskeeper.common.exception.AccessKeeperException;
 import com.rise_world.gematik.accesskeeper.common.exception.ErrorMessage;
 import com.rise_world.gematik.accesskeeper.common.exception.ErrorUtils;
+import com.rise_world.gematik.accesskeeper.common.token.ClaimUtils;
+import com.rise_world.gematik.accesskeeper.common.util.DigestUtils;
 import com.rise_world.gematik.accesskeeper.common.util.LogTool;
 import com.rise_world.gematik.accesskeeper.pairingdienst.dto.AccessTokenDTO;
 import com.rise_world.gematik.accesskeeper.pairingdienst.service.AccessTokenParser;
+import org.apache.cxf.rs.security.jose.jwe.JweCompactConsumer;
 import org.apache.cxf.rs.security.jose.jwt.JwtClaims;
+import org.apache.cxf.rs.security.jose.jwt.JwtConstants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
@@ -32,6 +37,9 @@ import jakarta.ws.rs.core.MediaType;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.rise_world.gematik.accesskeeper.common.exception.ErrorCodes.REG1_CLIENT_ERROR;
 
@@ -53,13 +61,19 @@ public class AuthorizationFilter implements Filter {
     private UnprotectedPathConfig unprotectedPathConfig;
     private ObjectMapper objectMapper;
     private Clock clock;
+    private final int accessTokenCacheMaxSize;
+
+    // apps send the same access token for consecutive pairing calls, so validated tokens are kept until they expire
+    private final Map<String, ValidatedAccessToken> validatedAccessTokens = new ConcurrentHashMap<>();
 
     @Autowired
-    public AuthorizationFilter(AccessTokenParser accessTokenParser, UnprotectedPathConfig unprotectedPathConfig, ObjectMapper objectMapper, Clock clock) {
+    public AuthorizationFilter(AccessTokenParser accessTokenParser, UnprotectedPathConfig unprotectedPathConfig, ObjectMapper objectMapper, Clock clock,
+                               @Value("${token.accessTokenCache.maxSize:10000}") int accessTokenCacheMaxSize) {
         this.accessTokenParser = accessTokenParser;
         this.unprotectedPathConfig = unprotectedPathConfig;
         this.objectMapper = objectMapper;
         this.clock = clock;
+        this.accessTokenCacheMaxSize = accessTokenCacheMaxSize;
     }
 
     @Override
@@ -88,10 +102,7 @@ public class AuthorizationFilter implements Filter {
 
         try {
             String encryptedAccessToken = authHeader.substring(AUTH_SCHEME.length()).trim();
-            // @AFO: A_21442 Authentisierung des Nutzers durch den übermittelten Access Token
-            JwtClaims accessToken = accessTokenParser.extractAndValidate(encryptedAccessToken);
-            // @AFO: A_21452 Extrahieren der idNummer aus dem AccessToken
-            AccessTokenDTO dto = new AccessTokenDTO(accessToken.getStringProperty("idNummer"), accessToken.getListStringProperty("amr"));
+            AccessTokenDTO dto = validateAccessToken(encryptedAccessToken);
 
             AuthorizationContext.setAccessToken(dto);
             filterChain.doFilter(request, response);
@@ -108,6 +119,37 @@ public class AuthorizationFilter implements Filter {
         }
     }
 
+    private AccessTokenDTO validateAccessToken(String encryptedAccessToken) {
+        String key = DigestUtils.sha256Hex(encryptedAccessToken, StandardCharsets.UTF_8);
+        Instant now = clock.instant();
+
+        ValidatedAccessToken cached = validatedAccessTokens.get(key);
+        if (cached != null && cached.expiresAt().isAfter(now)) {
+            return cached.accessToken();
+        }
+
+        // @AFO: A_21442 Authentisierung des Nutzers durch den übermittelten Access Token
+        JwtClaims accessToken = accessTokenParser.extractAndValidate(encryptedAccessToken);
+        // @AFO: A_21452 Extrahieren der idNummer aus dem AccessToken
+        AccessTokenDTO dto = new AccessTokenDTO(accessToken.getStringProperty("idNummer"), accessToken.getListStringProperty("amr"));
+
+        // both exp values are mandatory and have been validated by the parser, the earlier one bounds the cached entry
+        long headerExp = ClaimUtils.getLongPropertyWithoutException(new JweCompactConsumer(encryptedAccessToken).getJweHeaders(), JwtConstants.CLAIM_EXPIRY);
+        long claimExp = accessToken.getExpiryTime();
+        store(key, new ValidatedAccessToken(dto, Instant.ofEpochSecond(Math.min(headerExp, claimExp))), now);
+        return dto;
+    }
+
+    private void store(String key, ValidatedAccessToken validatedAccessToken, Instant now) {
+        if (validatedAccessTokens.size() >= accessTokenCacheMaxSize) {
+            validatedAccessTokens.values().removeIf(cached -> !cached.expiresAt().isAfter(now));
+            if (validatedAccessTokens.size() >= accessTokenCacheMaxSize) {
+                LOG.debug("access token cache is full - access token will not be cached");
+                return;
+            }
+        }
+        validatedAccessTokens.put(key, validatedAccessToken);
+    }
 
     private void returnError(ErrorMessage missingAccessToken, HttpServletResponse response) throws IOException {
         String requestId = MDC.get(LogTool.MDC_REQ_ID);
@@ -118,4 +160,7 @@ public class AuthorizationFilter implements Filter {
         objectMapper.writeValue(response.getWriter(), ErrorUtils.toErrorResponse(clock, missingAccessToken, requestId));
         response.getWriter().flush();
     }
+
+    private record ValidatedAccessToken(AccessTokenDTO accessToken, Instant expiresAt) {
+    }
 }
@@ -0,0 +1,14 @@
+/*
+ * Urheberrechtshinweis: Diese Software ist urheberrechtlich geschützt. Das Urheberrecht liegt bei
+ * Research Industrial Systems Engineering (RISE) Forschungs-, Entwicklungs- und Großprojektberatung GmbH,
+ * soweit nicht im Folgenden näher gekennzeichnet.
+ */
+package com.rise_world.gematik.accesskeeper.server.dto;
+
+/**
+ * Published after the infomodel configuration was (re)loaded
+ *
+ * @param configLocation absolute location of the loaded infomodel file
+ */
+public record ConfigReloadedEvent(String configLocation) {
+}
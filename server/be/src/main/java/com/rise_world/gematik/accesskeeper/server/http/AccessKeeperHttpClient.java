@@ -7,11 +7,14 @@ package com.rise_world.gematik.accesskeeper.server.http;
 
 import com.rise_world.gematik.accesskeeper.common.util.TlsUtils;
 import com.rise_world.gematik.accesskeeper.server.service.SelfSignedCertificateService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.commons.lang3.time.StopWatch;
 import org.apache.hc.client5.http.classic.HttpClient;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
 import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.apache.hc.client5.http.socket.ConnectionSocketFactory;
@@ -19,6 +22,9 @@ import org.apache.hc.client5.http.ssl.DefaultHostnameVerifier;
 import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
 import org.apache.hc.core5.http.config.RegistryBuilder;
 import org.apache.hc.core5.http.ssl.TLS;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
 import org.apache.hc.core5.util.Timeout;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,6 +37,9 @@ import java.security.SecureRandom;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.util.Locale;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
 
 import static com.rise_world.gematik.accesskeeper.server.configuration.IdpConstants.USER_AGENT;
 import static java.util.Objects.isNull;
@@ -42,19 +51,34 @@ public class AccessKeeperHttpClient {
 
     private final SelfSignedCertificateService certificateService;
     private final AccessKeeperHttpClientConfig config;
+    private final AccessKeeperHttpPoolConfig poolConfig;
 
     private final HttpRequestMonitor requestMonitor;
+    private final ScheduledExecutorService executorService;
 
     /**
      * lazy initialisation of the http client to ensure tls setup
-     * is done correctly using SelfSignedCertificateService
+     * is done correctly using SelfSignedCertificateService,
+     * the client is rebuilt whenever the mTLS key material changes
      */
-    private HttpClient http;
-
-    AccessKeeperHttpClient(SelfSignedCertificateService certificateService, HttpRequestMonitor requestMonitor, AccessKeeperHttpClientConfig config) {
+    private volatile PooledHttpClient http;
+
+    AccessKeeperHttpClient(SelfSignedCertificateService certificateService,
+                           HttpRequestMonitor requestMonitor,
+                           ScheduledExecutorService executorService,
+                           MeterRegistry meterRegistry,
+                           AccessKeeperHttpClientConfig config,
+                           AccessKeeperHttpPoolConfig poolConfig) {
         this.certificateService = certificateService;
         this.requestMonitor = requestMonitor;
+        this.executorService = executorService;
         this.config = config;
+        this.poolConfig = poolConfig;
+
+        registerPoolGauge(meterRegistry, "leased", PoolStats::getLeased);
+        registerPoolGauge(meterRegistry, "available", PoolStats::getAvailable);
+        registerPoolGauge(meterRegistry, "pending", PoolStats::getPending);
+        registerPoolGauge(meterRegistry, "max", PoolStats::getMax);
     }
 
     public <T> HttpResult<T> execute(HttpUriRequestBase request,
@@ -101,14 +125,49 @@ public class AccessKeeperHttpClient {
     }
 
     private HttpClient httpClient() {
-        if (isNull(http)) {
-            http = initHttpClient();
+        long keyMaterialVersion = certificateService.getKeyMaterialVersion();
+        PooledHttpClient current = http;
+        if (isNull(current) || current.keyMaterialVersion() != keyMaterialVersion) {
+            synchronized (this) {
+                current = http;
+                if (isNull(current) || current.keyMaterialVersion() != keyMaterialVersion) {
+                    PooledHttpClient previous = current;
+                    current = initHttpClient(keyMaterialVersion);
+                    http = current;
+                    retire(previous);
+                }
+            }
+        }
+
+        return current.client();
+    }
+
+    private void retire(PooledHttpClient previous) {
+        if (isNull(previous)) {
+            return;
         }
 
-        return http;
+        LOG.info("{} mTLS key material changed - replacing http client", config.system());
+        // requests still using the previous client are cancelled by the request monitor after the request timeout at the latest
+        executorService.schedule(() -> previous.client().close(CloseMode.GRACEFUL), config.requestTimeout().toMillis(), TimeUnit.MILLISECONDS);
     }
 
-    private HttpClient initHttpClient() {
+    private void registerPoolGauge(MeterRegistry meterRegistry, String state, ToIntFunction<PoolStats> value) {
+        Gauge.builder("http.client.connections", this, client -> client.poolStat(value))
+            .tags("system", config.system(), "state", state)
+            .description("The number of connections in the connection pool of the http client")
+            .register(meterRegistry);
+    }
+
+    private double poolStat(ToIntFunction<PoolStats> value) {
+        PooledHttpClient current = http;
+        if (isNull(current)) {
+            return Double.NaN;
+        }
+        return value.applyAsInt(current.connectionManager().getTotalStats());
+    }
+
+    private PooledHttpClient initHttpClient(long keyMaterialVersion) {
         SSLContext sslContext;
         try {
 
@@ -129,22 +188,32 @@ public class AccessKeeperHttpClient {
             .build());
 
         connectionManager.setDefaultTlsConfig(tlsConfig);
+        connectionManager.setDefaultMaxPerRoute(poolConfig.maxPerRoute());
+        connectionManager.setMaxTotal(poolConfig.maxTotal());
 
         connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
             .setConnectTimeout(Timeout.of(config.connectTimeout()))
             .setSocketTimeout(Timeout.of(config.reciveTimeout()))
+            .setTimeToLive(TimeValue.of(poolConfig.timeToLive()))
             .build());
 
-        return HttpClients.custom()
+        CloseableHttpClient client = HttpClients.custom()
             .disableAutomaticRetries()
             .disableCookieManagement()
             .disableDefaultUserAgent()
             .disableRedirectHandling()
             .setConnectionManager(connectionManager)
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.of(poolConfig.idleTimeout()))
             .setDefaultRequestConfig(RequestConfig.custom()
                 .setResponseTimeout(Timeout.of(config.reciveTimeout()))
                 .build())
             .build();
+
+        return new PooledHttpClient(client, connectionManager, keyMaterialVersion);
+    }
+
+    private record PooledHttpClient(CloseableHttpClient client, PoolingHttpClientConnectionManager connectionManager, long keyMaterialVersion) {
     }
 
 }
@@ -6,11 +6,13 @@
 package com.rise_world.gematik.accesskeeper.server.http;
 
 import com.rise_world.gematik.accesskeeper.server.service.SelfSignedCertificateService;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -22,12 +24,21 @@ public class AccessKeeperHttpClientFactory {
 
     private final SelfSignedCertificateService selfSignedCertificateService;
     private final ScheduledExecutorService executorService;
+    private final MeterRegistry meterRegistry;
+    private final AccessKeeperHttpPoolConfig poolConfig;
 
     AccessKeeperHttpClientFactory(SelfSignedCertificateService selfSignedCertificateService,
-                                  @Value("${http-client.monitor.pool-size:5}") int poolSize) {
+                                  MeterRegistry meterRegistry,
+                                  @Value("${http-client.monitor.pool-size:5}") int poolSize,
+                                  @Value("${http-client.connection-pool.max-per-route:20}") int maxPerRoute,
+                                  @Value("${http-client.connection-pool.max-total:100}") int maxTotal,
+                                  @Value("${http-client.connection-pool.idle-timeout:PT30S}") String idleTimeout,
+                                  @Value("${http-client.connection-pool.time-to-live:PT5M}") String timeToLive) {
         this.selfSignedCertificateService = selfSignedCertificateService;
+        this.meterRegistry = meterRegistry;
         LOG.info("creating http monitor pool with size {}", poolSize);
         this.executorService = Executors.newScheduledThreadPool(poolSize);
+        this.poolConfig = new AccessKeeperHttpPoolConfig(maxPerRoute, maxTotal, Duration.parse(idleTimeout), Duration.parse(timeToLive));
     }
 
     /**
@@ -39,7 +50,10 @@ public class AccessKeeperHttpClientFactory {
     public AccessKeeperHttpClient create(AccessKeeperHttpClientConfig config) {
         return new AccessKeeperHttpClient(selfSignedCertificateService,
             request -> executorService.schedule(request::cancel, config.requestTimeout().toMillis(), TimeUnit.MILLISECONDS),
-            config);
+            executorService,
+            meterRegistry,
+            config,
+            poolConfig);
     }
 
 }
@@ -0,0 +1,22 @@
+/*
+ * Urheberrechtshinweis: Diese Software ist urheberrechtlich geschützt. Das Urheberrecht liegt bei
+ * Research Industrial Systems Engineering (RISE) Forschungs-, Entwicklungs- und Großprojektberatung GmbH,
+ * soweit nicht im Folgenden näher gekennzeichnet.
+ */
+package com.rise_world.gematik.accesskeeper.server.http;
+
+import java.time.Duration;
+
+/**
+ * {@code AccessKeeperHttpPoolConfig} configures the connection pool of an {@link AccessKeeperHttpClient}
+ *
+ * @param maxPerRoute maximum number of connections to a single route
+ * @param maxTotal    maximum number of connections in total
+ * @param idleTimeout idle connections are closed after this duration
+ * @param timeToLive  connections are not reused after this duration
+ */
+record AccessKeeperHttpPoolConfig(int maxPerRoute,
+                                  int maxTotal,
+                                  Duration idleTimeout,
+                                  Duration timeToLive) {
+}
@@ -9,6 +9,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rise_world.gematik.accesskeeper.common.OAuth2Constants;
 import com.rise_world.gematik.accesskeeper.common.dto.TokenType;
 import com.rise_world.gematik.accesskeeper.common.token.ClaimUtils;
+import com.rise_world.gematik.accesskeeper.server.dto.ConfigReloadedEvent;
 import com.rise_world.gematik.accesskeeper.server.dto.RequestSource;
 import com.rise_world.gematik.accesskeeper.server.exception.ConfigException;
 import com.rise_world.gematik.accesskeeper.server.model.Client;
@@ -19,6 +20,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 
@@ -52,14 +54,16 @@ public class ConfigServiceImpl implements ConfigService {
     private static final Pattern NQ_CHAR = Pattern.compile("[\\x21\\x23-\\x5B\\x5D-\\x7E]+");
 
     private final String configLocation;
+    private final ApplicationEventPublisher eventPublisher;
 
     // init() creates and populates the cache. afterwards there are only reads - no writes
     // therefore it's safe to mark a non-primitive field as volatile
     @SuppressWarnings({"squid:S3077", "java:S3749"})
     private volatile ConfigCache cache;
 
-    public ConfigServiceImpl(@Value("${model.configuration}") String configLocation) {
+    public ConfigServiceImpl(@Value("${model.configuration}") String configLocation, ApplicationEventPublisher eventPublisher) {
         this.configLocation = configLocation;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -89,6 +93,7 @@ public class ConfigServiceImpl implements ConfigService {
         }
 
         init(infoModel);
+        eventPublisher.publishEvent(new ConfigReloadedEvent(configFile.toString()));
     }
 
     /**
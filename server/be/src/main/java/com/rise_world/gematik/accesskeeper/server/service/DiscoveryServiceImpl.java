@@ -7,45 +7,125 @@ package com.rise_world.gematik.accesskeeper.server.service;
 
 import com.rise_world.gematik.accesskeeper.common.OAuth2Constants;
 import com.rise_world.gematik.accesskeeper.common.crypt.CryptoConstants;
+import com.rise_world.gematik.accesskeeper.server.dto.ConfigReloadedEvent;
 import com.rise_world.gematik.accesskeeper.server.dto.RequestSource;
 import com.rise_world.gematik.accesskeeper.common.token.creation.TokenCreationStrategy;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.cxf.rs.security.jose.jwt.JwtClaims;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 public class DiscoveryServiceImpl implements DiscoveryService {
 
+    private static final Logger LOG = LoggerFactory.getLogger(DiscoveryServiceImpl.class);
+
     private ConfigService configService;
     private Clock clock;
     private TokenCreationStrategy discStrategy;
+    private Duration maxAge;
+
+    private final Map<RequestSource, SignedDocument> documents = new ConcurrentHashMap<>();
 
     @Autowired
-    public DiscoveryServiceImpl(ConfigService configService, Clock clock, @Qualifier("discStrategy") TokenCreationStrategy discStrategy) {
+    public DiscoveryServiceImpl(ConfigService configService, Clock clock, @Qualifier("discStrategy") TokenCreationStrategy discStrategy,
+                                MeterRegistry meterRegistry, @Value("${discoveryService.maxAge:PT12H}") String maxAge) {
         this.configService = configService;
         this.clock = clock;
         this.discStrategy = discStrategy;
+        this.maxAge = Duration.parse(maxAge);
+
+        for (RequestSource requestSource : RequestSource.values()) {
+            Gauge.builder("discovery.document.age", documents, d -> getAgeInSeconds(requestSource))
+                .tags("source", requestSource.getCode())
+                .baseUnit("seconds")
+                .description("The age of the pre-signed discovery document")
+                .register(meterRegistry);
+        }
     }
 
     @Override
+    public String getDiscoverDocument() {
+        RequestSource requestSource = RequestContext.getRequestSource();
+
+        SignedDocument document = documents.get(requestSource);
+        if (document == null || isOutdated(document)) {
+            // documents are refreshed by the timer, signing on request only happens on startup or if the refresh failed repeatedly
+            document = documents.compute(requestSource, (source, current) -> current == null || isOutdated(current) ? createDocument(source) : current);
+        }
+
+        return document.token();
+    }
+
+    /**
+     * Timer method for re-signing the discovery documents of all request sources.
+     * <p>
+     * If signing fails the previous document is kept until it exceeds the configured max age.
+     */
+    @Scheduled(fixedDelayString = "${discoveryService.refresh.delay:3600000}")
+    public void refreshDiscoveryDocuments() {
+        LOG.info("Refreshing discovery documents");
+
+        for (RequestSource requestSource : RequestSource.values()) {
+            try {
+                documents.put(requestSource, createDocument(requestSource));
+            }
+            catch (RuntimeException e) {
+                LOG.error("Failed to refresh discovery document for request source {}", requestSource.getCode(), e);
+            }
+        }
+    }
+
+    /**
+     * Discards and re-signs the discovery documents after the infomodel was reloaded
+     *
+     * @param event the reload event
+     */
+    @EventListener
+    public void onConfigReloaded(ConfigReloadedEvent event) {
+        LOG.info("Infomodel {} was reloaded - discarding discovery documents", event.configLocation());
+        documents.clear();
+        refreshDiscoveryDocuments();
+    }
+
+    private boolean isOutdated(SignedDocument document) {
+        return !document.issuedAt().plus(maxAge).isAfter(clock.instant());
+    }
+
+    private double getAgeInSeconds(RequestSource requestSource) {
+        SignedDocument document = documents.get(requestSource);
+        if (document == null) {
+            return Double.NaN;
+        }
+        return Duration.between(document.issuedAt(), clock.instant()).toSeconds();
+    }
+
     // @AFO: A_20458-01 - Attribute laut Anforderung werden zu den Claims hinzugef&uuml;gt
     // @AFO: A_20732 - &Ouml;ffentlicher Schl&uuml;ssel zu prk_idp_sig wird mit absoluter URI als 'uri_puk_idp_sig' zum Discovery Document hinzugef&uuml;gt
     // @AFO: A_20732 - &Ouml;ffentlicher Schl&uuml;ssel zu prk_idp_enc wird mit absoluter URI als 'uri_puk_idp_enc' zum Discovery Document hinzugef&uuml;gt
     // @AFO: A_20457 - Die verwendeten Adressen von authorization-, sso- und token-Endpoint werden als URL im Discovery Document ver&ouml;ffentlicht
     // @AFO: A_20439 - Die anderen Endpunkte des IDPs werden als Claims zum Discovery Document hinzugef&uuml;gt
-    public String getDiscoverDocument() {
+    private SignedDocument createDocument(RequestSource requestSource) {
         Instant now = clock.instant();
         long epochSecond = now.getEpochSecond();
 
-        RequestSource requestSource = RequestContext.getRequestSource();
         String issuer = configService.getIssuer(requestSource);
 
         JwtClaims discoveryClaims = new JwtClaims();
@@ -86,7 +166,11 @@ public class DiscoveryServiceImpl implements DiscoveryService {
 
         discoveryClaims.setProperty("subject_types_supported", Collections.singletonList("pairwise"));
 
-        return discStrategy.toToken(discoveryClaims); // @AFO: A_20591-01 - Claims werden mittels TokenCreationStrategy in einen JWT in Compact Serialization serialisiert
+        String token = discStrategy.toToken(discoveryClaims); // @AFO: A_20591-01 - Claims werden mittels TokenCreationStrategy in einen JWT in Compact Serialization serialisiert
+        return new SignedDocument(token, now);
+    }
+
+    private record SignedDocument(String token, Instant issuedAt) {
     }
 
 }
@@ -9,17 +9,15 @@ import com.rise_world.gematik.accesskeeper.server.dto.EntityStatementDTO;
 import com.rise_world.gematik.accesskeeper.server.dto.OpenidProviderDTO;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.Clock;
 import java.util.Collection;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.function.Predicate;
-import java.util.stream.Stream;
 
 import static java.util.Objects.isNull;
 
@@ -42,7 +40,11 @@ public class EntityStatementCache {
      * @return all cached {@link EntityStatementDTO entity statements}
      */
     public Collection<EntityStatementDTO> get() {
-        return get(all()).toList();
+        long now = clock.instant().getEpochSecond();
+        return cache.values().stream()
+            .filter(entry -> !entry.isExpired(now))
+            .map(CacheEntry::statement)
+            .toList();
     }
 
     /**
@@ -53,30 +55,29 @@ public class EntityStatementCache {
      * @return {@link Optional} containing the first {@link EntityStatementDTO entity statement} of the given issuer or {@link Optional#empty()}
      */
     public Optional<EntityStatementDTO> findFirstIssuer(String idpIss) {
-        return get(byIssuer(idpIss))
-            .findFirst();
+        if (isNull(idpIss)) {
+            return Optional.empty();
+        }
+
+        // entries are keyed by issuer, expired entries are removed by removeExpired
+        var entry = cache.get(idpIss);
+        if (isNull(entry) || entry.isExpired(clock.instant().getEpochSecond())) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.statement());
     }
 
-    private Stream<EntityStatementDTO> get(Predicate<EntityStatementDTO> filter) {
+    /**
+     * {@code removeExpired} removes all expired {@link EntityStatementDTO entity statements} from the cache
+     */
+    @Scheduled(fixedDelayString = "${federation.entityStatementCache.eviction.delay:60000}")
+    public void removeExpired() {
         long now = clock.instant().getEpochSecond();
-        var entityStatements = Stream.<EntityStatementDTO>builder();
-
-        var iterator = cache.values().iterator();
-        while (iterator.hasNext()) {
-
-            var entry = iterator.next();
-            if (entry.isExpired(now)) {
-                LOG.info("Cache entry for openid provider {} expired, remove from entity statement cache", entry.statement().getIssuer());
-                iterator.remove();
-                continue;
+        cache.forEach((issuer, entry) -> {
+            if (entry.isExpired(now) && cache.remove(issuer, entry)) {
+                LOG.info("Cache entry for openid provider {} expired, remove from entity statement cache", issuer);
             }
-
-            if (filter.test(entry.statement())) {
-                entityStatements.add(entry.statement());
-            }
-        }
-
-        return entityStatements.build();
+        });
     }
 
     /**
@@ -119,14 +120,6 @@ public class EntityStatementCache {
         };
     }
 
-    private static Predicate<EntityStatementDTO> all() {
-        return entityStatement -> true;
-    }
-
-    private static Predicate<EntityStatementDTO> byIssuer(String issuer) {
-        return entityStatement -> Objects.equals(entityStatement.getIssuer(), issuer);
-    }
-
     private record CacheEntry(EntityStatementDTO statement, LoadTrigger trigger) {
 
         boolean isExpired(long now) {
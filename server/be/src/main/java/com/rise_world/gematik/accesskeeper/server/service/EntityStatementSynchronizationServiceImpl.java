@@ -7,10 +7,14 @@ package com.rise_world.gematik.accesskeeper.server.service;
 
 import com.rise_world.gematik.accesskeeper.common.exception.AccessKeeperException;
 import com.rise_world.gematik.accesskeeper.common.exception.ErrorCodes;
+import com.rise_world.gematik.accesskeeper.common.service.SynchronizationConfiguration;
 import com.rise_world.gematik.accesskeeper.common.util.LogTool;
+import com.rise_world.gematik.accesskeeper.common.util.TimeLimitedExecutor;
 import com.rise_world.gematik.accesskeeper.server.dto.EntityStatementDTO;
 import com.rise_world.gematik.accesskeeper.server.dto.OpenidProviderDTO;
 import com.rise_world.gematik.accesskeeper.server.dto.ReloadEntityStatementEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.event.EventListener;
@@ -18,8 +22,13 @@ import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class EntityStatementSynchronizationServiceImpl implements EntityStatementSynchronizationService {
@@ -37,13 +46,28 @@ public class EntityStatementSynchronizationServiceImpl implements EntityStatemen
     private final IdentityFederationDirectoryService directoryService;
     private final OpenIdProviderFetcher openIdProviderFetcher;
     private final EntityStatementCache cache;
+    private final MeterRegistry meterRegistry;
+    private final Duration providerTimeout;
+    private final Duration deadline;
+    private final TimeLimitedExecutor executor;
 
     public EntityStatementSynchronizationServiceImpl(IdentityFederationDirectoryService directoryService,
                                               OpenIdProviderFetcher openIdProviderFetcher,
-                                              EntityStatementCache cache) {
+                                              EntityStatementCache cache,
+                                              MeterRegistry meterRegistry,
+                                              SynchronizationConfiguration syncConfig) {
         this.directoryService = directoryService;
         this.openIdProviderFetcher = openIdProviderFetcher;
         this.cache = cache;
+        this.meterRegistry = meterRegistry;
+        this.providerTimeout = syncConfig.getParticipantTimeout();
+        this.deadline = syncConfig.getDeadline();
+        this.executor = new TimeLimitedExecutor("openid-provider-sync-", syncConfig.getParallelism());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
     }
 
     @Override
@@ -51,18 +75,54 @@ public class EntityStatementSynchronizationServiceImpl implements EntityStatemen
     public void updateEntityStatementCache() {
         LOG.info("Updating entity statement cache");
 
-        directoryService.getOpenIdProviders()
+        List<Callable<Void>> tasks = directoryService.getOpenIdProviders()
             .stream()
-            .map(this::synchronizeOpenidProvider)
-            .flatMap(Optional::stream)
-            .forEach(cache::store);
+            .<Callable<Void>>map(openidProvider -> () -> {
+                synchronizeWithTimeout(openidProvider);
+                return null;
+            })
+            .toList();
+
+        try {
+            // every provider is stored as soon as it was fetched, a slow provider does not delay the others
+            executor.invokeAll(tasks, deadline);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.warn("Updating entity statement cache interrupted - remaining openid providers will be synchronized in the next run");
+        }
+    }
+
+    private void synchronizeWithTimeout(OpenidProviderDTO openidProvider) {
+        long start = System.nanoTime();
+        String outcome = "failure";
+        try (TimeLimitedExecutor.Timeout timeout = executor.startTimeout(providerTimeout, () ->
+            LOG.warn("Synchronization of openid provider {} exceeded timeout of {} - interrupting fetch", openidProvider.getIssuer(), providerTimeout))) {
+            Optional<EntityStatementDTO> entityStatement = synchronizeOpenidProvider(openidProvider);
+            // a late but successful fetch is stored as well, the timeout is only reported by the metric
+            entityStatement.ifPresent(cache::store);
+            if (timeout.isExpired()) {
+                outcome = "timeout";
+            }
+            else if (entityStatement.isPresent()) {
+                outcome = "success";
+            }
+        }
+        finally {
+            Timer.builder("federation.openid.provider.refresh")
+                .tags("issuer", openidProvider.getIssuer(), "outcome", outcome)
+                .description("The duration of refreshing the entity statement of an openid provider")
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
     }
 
     private Optional<EntityStatementDTO> synchronizeOpenidProvider(OpenidProviderDTO openidProvider) {
 
         LogTool.setIdpIss(openidProvider.getIssuer());
         try {
-            return Optional.of(openIdProviderFetcher.fetch(openidProvider));
+            // only the remote calls may be interrupted if the synchronization exceeds its timeout
+            return Optional.of(TimeLimitedExecutor.interruptibly(() -> openIdProviderFetcher.fetch(openidProvider)));
         }
         catch (Exception e) {
             LOG.error("Failed to synchronize openid provider {}", openidProvider.getIssuer(), e);
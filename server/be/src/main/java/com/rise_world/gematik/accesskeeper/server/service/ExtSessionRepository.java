@@ -15,6 +15,7 @@ import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -24,10 +25,15 @@ public class ExtSessionRepository {
 
     private static final String TABLE_NAME = "extsession";
     private static final String COL_STATE = "state";
+    private static final String COL_CREATION_TIME = "creationTime";
+    private static final String COL_BATCH_SIZE = "batchSize";
 
     private static final String QUERY_SESSION = "SELECT * FROM " + TABLE_NAME + " WHERE state=:state";
     private static final String DELETE_SESSION = "DELETE FROM " + TABLE_NAME + " WHERE state=:state";
     private static final String COUNT_SESSION = "SELECT COUNT(*) FROM " + TABLE_NAME;
+    // sessions stored before the creation time was introduced have no creation time and are expired as well
+    private static final String DELETE_EXPIRED_SESSIONS = "DELETE FROM " + TABLE_NAME
+        + " WHERE creation_time<:creationTime OR creation_time IS NULL LIMIT :batchSize";
 
     private final SimpleJdbcInsert simpleJdbcInsert;
     private final NamedParameterJdbcTemplate jdbcTemplate;
@@ -41,6 +47,20 @@ public class ExtSessionRepository {
         this.jdbcTemplate = namedParameterJdbcTemplate;
     }
 
+    /**
+     * Deletes up to {@code batchSize} sessions created before the given timestamp or without creation time.
+     *
+     * @param createdBefore sessions created before this timestamp are deleted
+     * @param batchSize     maximum number of sessions deleted by this call
+     * @return the number of deleted sessions
+     */
+    @Transactional
+    public int deleteExpiredSessions(Timestamp createdBefore, int batchSize) {
+        return jdbcTemplate.update(DELETE_EXPIRED_SESSIONS, new MapSqlParameterSource()
+            .addValue(COL_CREATION_TIME, createdBefore)
+            .addValue(COL_BATCH_SIZE, batchSize));
+    }
+
     /**
      * Stores the session.
      *
@@ -12,6 +12,9 @@ import com.rise_world.gematik.accesskeeper.common.token.creation.TokenCreationSt
 import com.rise_world.gematik.accesskeeper.common.token.extraction.parser.IdpJwsJwtCompactConsumer;
 import com.rise_world.gematik.accesskeeper.server.dto.OpenidProviderDTO;
 import com.rise_world.gematik.idp.server.api.federation.FederationEndpoint;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.cxf.rs.security.jose.jwa.SignatureAlgorithm;
 import org.apache.cxf.rs.security.jose.jws.JwsJwtCompactConsumer;
@@ -19,6 +22,8 @@ import org.apache.cxf.rs.security.jose.jwt.JwtClaims;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import jakarta.ws.rs.ProcessingException;
@@ -27,6 +32,9 @@ import java.net.ConnectException;
 import java.net.NoRouteToHostException;
 import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -55,17 +63,80 @@ public class IdentityFederationDirectoryServiceImpl implements IdentityFederatio
     private final FederationEndpoint federationEndpoint;
     private final KeyProvider keyProvider;
     private final TokenCreationStrategy discStrategy;
+    private final Clock clock;
+    private final Duration maxAge;
+    private final Counter refreshFailures;
+
+    private volatile SignedIdpList signedIdpList;
 
     public IdentityFederationDirectoryServiceImpl(FederationEndpoint federationEndpoint,
                                                   KeyProvider keyProvider,
-                                                  @Qualifier("discStrategy") TokenCreationStrategy discStrategy) {
+                                                  @Qualifier("discStrategy") TokenCreationStrategy discStrategy,
+                                                  Clock clock,
+                                                  MeterRegistry meterRegistry,
+                                                  @Value("${federation.idpList.maxAge:PT1H}") String maxAge) {
         this.federationEndpoint = federationEndpoint;
         this.keyProvider = keyProvider;
         this.discStrategy = discStrategy;
+        this.clock = clock;
+        this.maxAge = Duration.parse(maxAge);
+
+        Gauge.builder("federation.idp.list.age", this, IdentityFederationDirectoryServiceImpl::getAgeInSeconds)
+            .baseUnit("seconds")
+            .description("The age of the pre-signed list of federated identity providers")
+            .register(meterRegistry);
+        this.refreshFailures = Counter.builder("federation.idp.list.refresh.failures")
+            .description("The number of failed refreshes of the list of federated identity providers")
+            .register(meterRegistry);
     }
 
     @Override
     public String getRemoteIdps() {
+        SignedIdpList current = signedIdpList;
+        if (current == null || isOutdated(current)) {
+            // the list is refreshed by the timer, fetching on request only happens on startup or if the refresh failed repeatedly
+            synchronized (this) {
+                current = signedIdpList;
+                if (current == null || isOutdated(current)) {
+                    current = createIdpList();
+                    signedIdpList = current;
+                }
+            }
+        }
+
+        return current.token();
+    }
+
+    /**
+     * Timer method for fetching and re-signing the list of federated identity providers.
+     * <p>
+     * If the federation master is not available the previous list is served until it exceeds the configured max age.
+     */
+    @Scheduled(fixedDelayString = "${federation.idpList.refresh.delay:300000}")
+    public void refreshRemoteIdps() {
+        try {
+            signedIdpList = createIdpList();
+        }
+        catch (RuntimeException e) {
+            refreshFailures.increment();
+            LOG.error("Failed to refresh list of federated identity providers", e);
+        }
+    }
+
+    private boolean isOutdated(SignedIdpList idpList) {
+        return !idpList.issuedAt().plus(maxAge).isAfter(clock.instant());
+    }
+
+    private double getAgeInSeconds() {
+        SignedIdpList current = signedIdpList;
+        if (current == null) {
+            return Double.NaN;
+        }
+        return Duration.between(current.issuedAt(), clock.instant()).toSeconds();
+    }
+
+    private SignedIdpList createIdpList() {
+        Instant now = clock.instant();
         List<Map<String, Object>> allFederatedIps = new ArrayList<>();
 
         for (OpenidProviderDTO sektorIdp : getOpenIdProviders()) {
@@ -79,7 +150,7 @@ public class IdentityFederationDirectoryServiceImpl implements IdentityFederatio
         }
 
         // A_23683: analog zu A_20591-01 wird die 'discStrategy' verwendet um den Token mit PrK_DISC_SIG zu signieren.
-        return discStrategy.toToken(new JwtClaims(Collections.singletonMap(FED_IDP_LIST, allFederatedIps)));
+        return new SignedIdpList(discStrategy.toToken(new JwtClaims(Collections.singletonMap(FED_IDP_LIST, allFederatedIps))), now);
     }
 
     @Override
@@ -162,5 +233,8 @@ public class IdentityFederationDirectoryServiceImpl implements IdentityFederatio
 
         return true;
     }
+
+    private record SignedIdpList(String token, Instant issuedAt) {
+    }
 }
 
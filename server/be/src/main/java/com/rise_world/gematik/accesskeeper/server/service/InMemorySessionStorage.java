@@ -0,0 +1,107 @@
+/*
+ * Urheberrechtshinweis: Diese Software ist urheberrechtlich geschützt. Das Urheberrecht liegt bei
+ * Research Industrial Systems Engineering (RISE) Forschungs-, Entwicklungs- und Großprojektberatung GmbH,
+ * soweit nicht im Folgenden näher gekennzeichnet.
+ */
+package com.rise_world.gematik.accesskeeper.server.service;
+
+import com.rise_world.gematik.accesskeeper.common.exception.AccessKeeperException;
+import com.rise_world.gematik.accesskeeper.common.exception.ErrorCodes;
+import com.rise_world.gematik.accesskeeper.common.util.RandomUtils;
+import com.rise_world.gematik.accesskeeper.server.entity.ExtSessionEntity;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code InMemorySessionStorage} keeps external sessions in memory instead of the {@code extsession} table.
+ * <p>
+ * Sessions expire {@code sessionStorage.ttl} after their creation and the number of sessions is bounded by
+ * {@code sessionStorage.maxSize}. As sessions are not shared between instances this storage requires that the
+ * federated login of a user is always handled by the same instance.
+ */
+@Service
+@ConditionalOnProperty(name = "sessionStorage.type", havingValue = "memory")
+public class InMemorySessionStorage implements SessionStorage {
+
+    private static final Logger LOG = LoggerFactory.getLogger(InMemorySessionStorage.class);
+
+    private final Clock clock;
+    private final Duration ttl;
+    private final int maxSize;
+    private final ConcurrentHashMap<String, StoredSession> sessions = new ConcurrentHashMap<>();
+
+    public InMemorySessionStorage(MeterRegistry meterRegistry, Clock clock,
+                                  @Value("${sessionStorage.ttl:PT30M}") String ttl,
+                                  @Value("${sessionStorage.maxSize:100000}") int maxSize) {
+        this.clock = clock;
+        this.ttl = Duration.parse(ttl);
+        this.maxSize = maxSize;
+
+        Gauge.builder("db.table.size", sessions, ConcurrentHashMap::size)
+            .tags("table", "extsession")
+            .description("The number of external sessions in memory")
+            .register(meterRegistry);
+
+        LOG.info("InMemorySessionStorage was initialized");
+    }
+
+    @Override
+    public String createSessionId() {
+        return RandomUtils.randomShortUUID();
+    }
+
+    @Override
+    public void writeSession(ExtSessionEntity session) {
+        Instant now = clock.instant();
+        if (session.getCreationTime() == null) {
+            session.setCreationTime(Timestamp.from(now));
+        }
+
+        if (sessions.size() >= maxSize) {
+            deleteExpiredSessions();
+            if (sessions.size() >= maxSize) {
+                LOG.error("Session storage is full ({} sessions) - session can not be stored", maxSize);
+                throw new AccessKeeperException(ErrorCodes.SERVER_ERROR);
+            }
+        }
+        sessions.put(session.getState(), new StoredSession(session, session.getCreationTime().toInstant().plus(ttl)));
+    }
+
+    @Override
+    public ExtSessionEntity getSession(String sessionId) {
+        StoredSession stored = sessions.get(sessionId);
+        if (stored == null || !stored.expiresAt().isAfter(clock.instant())) {
+            return null;
+        }
+        return stored.session();
+    }
+
+    @Override
+    public void destroySession(String sessionId) {
+        sessions.remove(sessionId);
+    }
+
+    /**
+     * Removes expired sessions from memory
+     */
+    @Scheduled(fixedDelayString = "${sessionStorage.sweep.delay:60000}")
+    public void deleteExpiredSessions() {
+        Instant now = clock.instant();
+        sessions.values().removeIf(stored -> !stored.expiresAt().isAfter(now));
+    }
+
+    private record StoredSession(ExtSessionEntity session, Instant expiresAt) {
+    }
+}
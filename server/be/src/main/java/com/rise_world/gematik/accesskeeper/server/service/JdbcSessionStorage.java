@@ -13,18 +13,40 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
 @Service
+@ConditionalOnProperty(name = "sessionStorage.type", havingValue = "jdbc", matchIfMissing = true)
 public class JdbcSessionStorage implements SessionStorage {
 
     private static final Logger LOG = LoggerFactory.getLogger(JdbcSessionStorage.class);
 
     private ExtSessionRepository repo;
+    private Clock clock;
+    private Duration ttl;
+    private int sweepBatchSize;
 
     @Autowired
-    public JdbcSessionStorage(ExtSessionRepository repo, MeterRegistry meterRegistry, @Value("${db.monitoring.enabled:true}") boolean dbMonitoringEnabled) {
+    public JdbcSessionStorage(ExtSessionRepository repo, MeterRegistry meterRegistry, Clock clock,
+                              @Value("${db.monitoring.enabled:true}") boolean dbMonitoringEnabled,
+                              @Value("${sessionStorage.ttl:PT30M}") String ttl,
+                              @Value("${sessionStorage.sweep.batchSize:1000}") int sweepBatchSize) {
+        if (sweepBatchSize <= 0) {
+            // a batch size of zero would never finish the sweep
+            throw new IllegalArgumentException("sessionStorage.sweep.batchSize must be greater than 0");
+        }
+
         this.repo = repo;
+        this.clock = clock;
+        this.ttl = Duration.parse(ttl);
+        this.sweepBatchSize = sweepBatchSize;
 
         LOG.info("JdbcSessionStorage was initialized");
 
@@ -46,16 +68,45 @@ public class JdbcSessionStorage implements SessionStorage {
 
     @Override
     public void writeSession(ExtSessionEntity session) {
+        if (session.getCreationTime() == null) {
+            session.setCreationTime(Timestamp.from(clock.instant()));
+        }
         repo.save(session);
     }
 
     @Override
     public ExtSessionEntity getSession(String sessionId) {
-        return repo.fetchSession(sessionId).orElse(null);
+        return repo.fetchSession(sessionId)
+            // sessions without creation time are treated as expired, the sweep deletes them as well
+            .filter(session -> session.getCreationTime() != null && !isExpired(session.getCreationTime().toInstant()))
+            .orElse(null);
     }
 
     @Override
     public void destroySession(String sessionId) {
         repo.deleteSession(sessionId);
     }
+
+    /**
+     * Deletes expired sessions in batches of {@code sessionStorage.sweep.batchSize}, so abandoned logins do not
+     * accumulate in the database.
+     */
+    @Scheduled(fixedDelayString = "${sessionStorage.sweep.delay:60000}")
+    public void deleteExpiredSessions() {
+        Timestamp createdBefore = Timestamp.from(clock.instant().minus(ttl));
+        int deleted = 0;
+        int batch;
+        do {
+            batch = repo.deleteExpiredSessions(createdBefore, sweepBatchSize);
+            deleted += batch;
+        } while (batch >= sweepBatchSize);
+
+        if (deleted > 0) {
+            LOG.info("Deleted {} expired external session(s)", deleted);
+        }
+    }
+
+    private boolean isExpired(Instant creationTime) {
+        return !creationTime.plus(ttl).isAfter(clock.instant());
+    }
 }
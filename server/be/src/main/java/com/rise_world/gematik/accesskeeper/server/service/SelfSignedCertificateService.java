@@ -69,7 +69,7 @@ public class SelfSignedCertificateService {
         this.keystorePw = keystorePw;
         this.clock = clock;
 
-        this.mtlsKeys = new AtomicReference<>(new MtlsKeys(new KeyManager[]{}, new TrustManager[]{}, Collections.emptyList()));
+        this.mtlsKeys = new AtomicReference<>(new MtlsKeys(new KeyManager[]{}, new TrustManager[]{}, Collections.emptyList(), 0));
     }
 
     // @AFO: A_23692 - Laden und Filtern der mTLS Zertifikate
@@ -137,7 +137,10 @@ public class SelfSignedCertificateService {
             throw new RuntimeException(e);
         }
 
-        this.mtlsKeys.set(new MtlsKeys(keyManagers, trustManagers, tlsCertificates));
+        MtlsKeys current = this.mtlsKeys.get();
+        // the version is only increased if the certificates changed, so clients keep their connections on an unchanged reload
+        long version = current.tlsCertificates().equals(tlsCertificates) ? current.version() : current.version() + 1;
+        this.mtlsKeys.set(new MtlsKeys(keyManagers, trustManagers, tlsCertificates, version));
     }
 
     private JsonWebKey transformCertificate(X509Certificate x509Certificate) {
@@ -168,6 +171,15 @@ public class SelfSignedCertificateService {
         return this.mtlsKeys.get().trustManagers;
     }
 
+    /**
+     * {@code getKeyMaterialVersion} returns a version which is increased whenever a reload changed the mTLS certificates
+     *
+     * @return version of the current mTLS key material
+     */
+    public long getKeyMaterialVersion() {
+        return this.mtlsKeys.get().version();
+    }
+
     private static KeyManager[] createKeyManagers(List<KeyStore.PrivateKeyEntry> entries) {
         try {
             KeyStore ks = KeyStore.getInstance("PKCS12");
@@ -195,6 +207,6 @@ public class SelfSignedCertificateService {
         conduit.getTlsClientParameters().setTrustManagers(getTrustManagers());
     }
 
-    private record MtlsKeys(KeyManager[] keyManagers, TrustManager[] trustManagers, List<X509Certificate> tlsCertificates) {
+    private record MtlsKeys(KeyManager[] keyManagers, TrustManager[] trustManagers, List<X509Certificate> tlsCertificates, long version) {
     }
 }
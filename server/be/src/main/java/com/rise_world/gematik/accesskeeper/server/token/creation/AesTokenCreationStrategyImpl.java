@@ -13,24 +13,22 @@ import org.apache.cxf.rs.security.jose.jwt.JwtClaims;
 
 import javax.crypto.SecretKey;
 
+/**
+ * Signs tokens with a shared {@link SignStrategy} and encrypts them with the AES key provided per request.
+ * Instances are thread-safe and meant to be reused for all token requests.
+ */
 public class AesTokenCreationStrategyImpl implements AesTokenCreationStrategy {
 
-    private JwsSignatureProvider signatureProvider;
-    private String type;
+    private final SignStrategy signStrategy;
 
     public AesTokenCreationStrategyImpl(JwsSignatureProvider signatureProvider, String type) {
-        this.signatureProvider = signatureProvider;
-        this.type = type;
+        this.signStrategy = new SignStrategy(signatureProvider, KeyConstants.PUK_IDP_SIG, type);
     }
 
     @Override
     public String toToken(JwtClaims claims, SecretKey key) {
+        String signed = signStrategy.toToken(claims);
         // @AFO: GS-A_5016 symmetrische Verschlüsselung mit beigestelltem AES Schlüsselmaterial
-        final EncryptAndSignStrategy strategy = new EncryptAndSignStrategy(
-            JweUtils.getDirectKeyJweEncryption(key, ContentAlgorithm.A256GCM),
-            signatureProvider,
-            KeyConstants.PUK_IDP_SIG,
-            type);
-        return strategy.toToken(claims);
+        return EncryptAndSignStrategy.encrypt(claims, signed, JweUtils.getDirectKeyJweEncryption(key, ContentAlgorithm.A256GCM));
     }
 }
@@ -37,8 +37,18 @@ public class EncryptAndSignStrategy extends SignStrategy {
 
     @Override
     public String toToken(JwtClaims claims) {
-        String signed = super.toToken(claims);
+        return encrypt(claims, super.toToken(claims), encryption);
+    }
 
+    /**
+     * Wraps an already signed token into a JWE using the given encryption provider
+     *
+     * @param claims     claims of the signed token, used to expose the expiry in the JWE header
+     * @param signed     the signed token
+     * @param encryption provider used for the content encryption
+     * @return the encrypted token
+     */
+    static String encrypt(JwtClaims claims, String signed, JweEncryptionProvider encryption) {
         try {
             JweHeaders headers = createJWEHeader();
             // add exp claim to header. this way decrypt can be avoided for expired tokens
@@ -56,7 +66,7 @@ public class EncryptAndSignStrategy extends SignStrategy {
         }
     }
 
-    private JweHeaders createJWEHeader() {
+    private static JweHeaders createJWEHeader() {
         JweHeaders headers = new JweHeaders();
         headers.setContentEncryptionAlgorithm(ContentAlgorithm.A256GCM);
         headers.setContentType(ClaimUtils.NESTED_TOKEN_CTY_VALUE);